@@ -0,0 +1,87 @@
+package wingman.logic.core;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import wingman.commons.util.GetUtil;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.model.Model;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.flight.Flight;
+import wingman.model.location.Location;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.Plane;
+
+/**
+ * Measures how long it takes {@link WingmanParser#parse} to turn a line of
+ * user input into a command, in each {@link OperationMode}. For each mode,
+ * both an {@code add} command and a command that refers to existing items
+ * by their indices are parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WingmanParserBenchmark {
+    private static final Map<OperationMode, String> ADD_INPUTS = Map.of(
+            OperationMode.PILOT, "add /n Amelia Earhart /r 1 /a 39 /g 1 /fh 1500",
+            OperationMode.CREW, "add /n Grace Hopper /r 1",
+            OperationMode.PLANE, "add /m A380 /a 12",
+            OperationMode.LOCATION, "add /n Singapore",
+            OperationMode.FLIGHT, "add /c SQ321"
+    );
+
+    private static final Map<OperationMode, String> INDEXED_INPUTS = Map.of(
+            OperationMode.PILOT, "linkflight /fl 1 /pf 1",
+            OperationMode.CREW, "linkflight /fl 1 /csd 1",
+            OperationMode.PLANE, "linklocation /lo 1 /pl 1",
+            OperationMode.LOCATION, "delete 1",
+            OperationMode.FLIGHT, "linklocation /fl 1 /from 1 /to 2"
+    );
+
+    @Param({"PILOT", "CREW", "PLANE", "LOCATION", "FLIGHT"})
+    private OperationMode mode;
+
+    private WingmanParser parser;
+
+    /**
+     * Registers a model with one flight and a few items of each kind, so that
+     * the indices in the inputs can be resolved.
+     */
+    @Setup
+    public void setUp() {
+        final Model model = new ModelManager();
+        model.addPilot(new Pilot("Pilot", 30, Gender.OTHER, PilotRank.CAPTAIN, 100));
+        model.addCrew(new Crew("Crew", CrewRank.CREW_MEMBER));
+        model.addPlane(new Plane("A350", 3));
+        model.addLocation(new Location("Singapore"));
+        model.addLocation(new Location("Tokyo"));
+        model.addFlight(new Flight("SQ123"));
+        GetUtil.putForce(Model.class, model);
+        parser = new WingmanParser();
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException, CommandException {
+        return parser.parse(mode, ADD_INPUTS.get(mode));
+    }
+
+    @Benchmark
+    public Command parseIndexed() throws ParseException, CommandException {
+        return parser.parse(mode, INDEXED_INPUTS.get(mode));
+    }
+}
@@ -0,0 +1,76 @@
+package wingman.model;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import wingman.model.plane.Plane;
+
+/**
+ * Measures how long it takes to add, delete and look up an item in an
+ * {@link ItemManager} of different sizes. Each benchmark leaves the manager
+ * with as many items as it started with, so that the size stays the same
+ * across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemManagerBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int itemCount;
+
+    private ItemManager<Plane> manager;
+    private Plane extraPlane;
+    private Plane middlePlane;
+
+    /**
+     * Fills the manager with planes.
+     */
+    @Setup
+    public void setUp() {
+        manager = new ItemManager<>();
+        for (int i = 0; i < itemCount; i++) {
+            manager.addItem(new Plane("Plane " + i, i % 30));
+        }
+        extraPlane = new Plane("Extra plane", 1);
+        middlePlane = manager.getItem(itemCount / 2);
+    }
+
+    /**
+     * Adds a new plane at the end, and deletes it again.
+     */
+    @Benchmark
+    public void addThenDeleteLast() {
+        manager.addItem(extraPlane);
+        manager.removeItem(extraPlane.getId());
+    }
+
+    /**
+     * Deletes the first plane, which shifts all the other planes, and adds
+     * it back at the end.
+     */
+    @Benchmark
+    public void deleteFirstThenAdd() {
+        final Plane plane = manager.getItem(0);
+        manager.removeItem(plane.getId());
+        manager.addItem(plane);
+    }
+
+    @Benchmark
+    public Optional<Plane> lookUpById() {
+        return manager.getItemOptional(middlePlane.getId());
+    }
+
+    @Benchmark
+    public boolean containsItem() {
+        return manager.hasItem(middlePlane);
+    }
+}
@@ -0,0 +1,104 @@
+package wingman.model.flight;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import wingman.commons.util.GetUtil;
+import wingman.model.Model;
+import wingman.model.ModelManager;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.crew.FlightCrewType;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.FlightLocationType;
+import wingman.model.location.Location;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.FlightPlaneType;
+import wingman.model.plane.Plane;
+
+/**
+ * Measures how long it takes to resolve the links of the flights in a model
+ * to the pilots, crew, planes and locations they are linked to, the way a
+ * flight card does when it is displayed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlightLinkResolutionBenchmark {
+    @Param({"1000"})
+    private int flightCount;
+
+    private Model model;
+    private List<Flight> flights;
+    private Pilot pilot;
+
+    /**
+     * Registers a model in which each flight is linked to its own pilots,
+     * crew, plane and locations.
+     */
+    @Setup
+    public void setUp() throws LinkException {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        for (int i = 0; i < flightCount; i++) {
+            final Flight flight = new Flight("SQ" + i);
+            final Pilot pilotFlying = new Pilot("Pilot " + i, 30, Gender.OTHER, PilotRank.CAPTAIN, i);
+            final Pilot pilotMonitoring = new Pilot("Pilot " + i + "b", 30, Gender.OTHER, PilotRank.CAPTAIN, i);
+            final Crew crew = new Crew("Crew " + i, CrewRank.CREW_MEMBER);
+            final Plane plane = new Plane("Plane " + i, 1);
+            final Location departure = new Location("From " + i);
+            final Location arrival = new Location("To " + i);
+            model.addPilot(pilotFlying);
+            model.addPilot(pilotMonitoring);
+            model.addCrew(crew);
+            model.addPlane(plane);
+            model.addLocation(departure);
+            model.addLocation(arrival);
+            flight.pilotLink.put(FlightPilotType.PILOT_FLYING, pilotFlying);
+            flight.pilotLink.put(FlightPilotType.PILOT_MONITORING, pilotMonitoring);
+            flight.crewLink.put(FlightCrewType.FLIGHT_ATTENDANT, crew);
+            flight.planeLink.put(FlightPlaneType.PLANE_USING, plane);
+            flight.locationLink.put(FlightLocationType.LOCATION_DEPARTURE, departure);
+            flight.locationLink.put(FlightLocationType.LOCATION_ARRIVAL, arrival);
+            model.addFlight(flight);
+        }
+        flights = model.getFlightManager().getItemList();
+        pilot = model.getPilotManager().getItem(0);
+    }
+
+    /**
+     * Resolves the links of all the flights, when none of the managers has
+     * changed since they were last resolved.
+     */
+    @Benchmark
+    public void displayAllFlights(Blackhole blackhole) {
+        for (Flight flight : flights) {
+            blackhole.consume(flight.getDisplayList());
+        }
+    }
+
+    /**
+     * Resolves the links of all the flights, after a pilot has been
+     * modified, so that the pilot links have to be resolved again.
+     */
+    @Benchmark
+    public void displayAllFlightsAfterPilotUpdate(Blackhole blackhole) {
+        model.updatePilot(pilot);
+        for (Flight flight : flights) {
+            blackhole.consume(flight.getDisplayList());
+        }
+    }
+}
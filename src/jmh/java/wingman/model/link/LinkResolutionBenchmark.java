@@ -0,0 +1,88 @@
+package wingman.model.link;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import wingman.commons.fp.Lazy;
+import wingman.model.ItemManager;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+/**
+ * Measures how long it takes to resolve the ids in a {@link Link} to the
+ * items in an {@link ItemManager}. {@link #linearScan} resolves the same ids
+ * by scanning the item list, which is how the ids used to be resolved, so
+ * that the two can be compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkResolutionBenchmark {
+    private static final String KEY = "pilots";
+
+    @Param({"10000"})
+    private int pilotCount;
+
+    @Param({"100"})
+    private int linkCount;
+
+    private ItemManager<Pilot> manager;
+    private Link<String, Pilot, ItemManager<Pilot>> link;
+    private List<String> linkedIds;
+
+    /**
+     * Fills the manager with pilots, and links to pilots spread evenly
+     * across the manager.
+     */
+    @Setup
+    public void setUp() throws LinkException {
+        manager = new ItemManager<>();
+        for (int i = 0; i < pilotCount; i++) {
+            manager.addItem(new Pilot("Pilot " + i, 30, Gender.OTHER, PilotRank.CAPTAIN, i));
+        }
+        link = new Link<>(Map.of(KEY, linkCount), Lazy.of(manager));
+        linkedIds = new ArrayList<>();
+        for (int i = 0; i < linkCount; i++) {
+            final Pilot pilot = manager.getItem(i * (pilotCount / linkCount));
+            link.put(KEY, pilot);
+            linkedIds.add(pilot.getId());
+        }
+    }
+
+    @Benchmark
+    public List<Pilot> getValid() throws LinkException {
+        return link.getValid(KEY);
+    }
+
+    @Benchmark
+    public List<Optional<Pilot>> get() throws LinkException {
+        return link.get(KEY);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (String id : linkedIds) {
+            for (Pilot pilot : manager.getItemList()) {
+                if (pilot.getId().equals(id)) {
+                    blackhole.consume(pilot);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package wingman.storage.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.location.Location;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.Plane;
+import wingman.storage.ItemStorage;
+import wingman.storage.binary.storage.BinaryCrewManagerStorage;
+import wingman.storage.binary.storage.BinaryFlightManagerStorage;
+import wingman.storage.binary.storage.BinaryLocationManagerStorage;
+import wingman.storage.binary.storage.BinaryPilotManagerStorage;
+import wingman.storage.binary.storage.BinaryPlaneManagerStorage;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+import wingman.storage.json.storage.JsonLocationManagerStorage;
+import wingman.storage.json.storage.JsonPilotManagerStorage;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+/**
+ * Measures how long it takes to save each item manager to, and to load it
+ * from, its JSON file or its binary file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonItemStorageBenchmark {
+    @Param({"pilot", "crew", "plane", "location", "flight"})
+    private String managerName;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"1000"})
+    private int itemCount;
+
+    private Path directory;
+    private Fixture<?> fixture;
+
+    /**
+     * A storage, together with a manager that is saved with it.
+     *
+     * @param <T> the type of the items.
+     */
+    private static class Fixture<T extends Item> {
+        private final ItemStorage<T> storage;
+        private final ItemManager<T> manager;
+
+        private Fixture(
+                Function<Path, ItemStorage<T>> storageFactory,
+                IntFunction<T> itemFactory,
+                Path directory,
+                int itemCount
+        ) {
+            storage = storageFactory.apply(directory.resolve("manager.json"));
+            manager = new ItemManager<>();
+            for (int i = 0; i < itemCount; i++) {
+                manager.addItem(itemFactory.apply(i));
+            }
+        }
+
+        private void save() throws IOException {
+            storage.save(manager);
+        }
+
+        private Optional<? extends ReadOnlyItemManager<T>> load()
+                throws DataConversionException, IOException {
+            return storage.read();
+        }
+    }
+
+    /**
+     * Returns the given JSON or binary storage, according to the format.
+     */
+    private <T extends Item> Function<Path, ItemStorage<T>> storage(
+            Function<Path, ItemStorage<T>> jsonStorage,
+            Function<Path, ItemStorage<T>> binaryStorage
+    ) {
+        return "binary".equals(format) ? binaryStorage : jsonStorage;
+    }
+
+    /**
+     * Creates the manager, and saves it once so that there is a file to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wingman-jmh");
+        switch (managerName) {
+        case "pilot":
+            fixture = new Fixture<Pilot>(
+                    storage(JsonPilotManagerStorage::new, BinaryPilotManagerStorage::new),
+                    i -> new Pilot("Pilot " + i, 30, Gender.OTHER, PilotRank.CAPTAIN, i),
+                    directory, itemCount);
+            break;
+        case "crew":
+            fixture = new Fixture<Crew>(
+                    storage(JsonCrewManagerStorage::new, BinaryCrewManagerStorage::new),
+                    i -> new Crew("Crew " + i, CrewRank.CREW_MEMBER),
+                    directory, itemCount);
+            break;
+        case "plane":
+            fixture = new Fixture<Plane>(
+                    storage(JsonPlaneManagerStorage::new, BinaryPlaneManagerStorage::new),
+                    i -> new Plane("Plane " + i, i % 30),
+                    directory, itemCount);
+            break;
+        case "location":
+            fixture = new Fixture<Location>(
+                    storage(JsonLocationManagerStorage::new, BinaryLocationManagerStorage::new),
+                    i -> new Location("Location " + i),
+                    directory, itemCount);
+            break;
+        case "flight":
+            fixture = new Fixture<Flight>(
+                    storage(JsonFlightManagerStorage::new, BinaryFlightManagerStorage::new),
+                    i -> new Flight("SQ" + i),
+                    directory, itemCount);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown manager: " + managerName);
+        }
+        fixture.save();
+    }
+
+    /**
+     * Deletes the files that have been saved.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        fixture.save();
+    }
+
+    @Benchmark
+    public Object load() throws DataConversionException, IOException {
+        return fixture.load();
+    }
+}
@@ -4,9 +4,15 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import wingman.commons.core.Config;
 import wingman.commons.core.LogsCenter;
@@ -19,6 +25,7 @@ import wingman.commons.util.StringUtil;
 import wingman.logic.Logic;
 import wingman.logic.LogicManager;
 import wingman.model.ItemManager;
+import wingman.model.LinkSweeper;
 import wingman.model.Model;
 import wingman.model.ModelManager;
 import wingman.model.ReadOnlyItemManager;
@@ -30,16 +37,13 @@ import wingman.model.item.Item;
 import wingman.model.location.Location;
 import wingman.model.pilot.Pilot;
 import wingman.model.plane.Plane;
+import wingman.storage.BackgroundStorageWriter;
 import wingman.storage.ItemStorage;
+import wingman.storage.ItemStorages;
 import wingman.storage.JsonUserPrefsStorage;
 import wingman.storage.Storage;
 import wingman.storage.StorageManager;
 import wingman.storage.UserPrefsStorage;
-import wingman.storage.json.storage.JsonCrewManagerStorage;
-import wingman.storage.json.storage.JsonFlightManagerStorage;
-import wingman.storage.json.storage.JsonLocationManagerStorage;
-import wingman.storage.json.storage.JsonPilotManagerStorage;
-import wingman.storage.json.storage.JsonPlaneManagerStorage;
 import wingman.ui.Ui;
 import wingman.ui.UiManager;
 
@@ -50,11 +54,26 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    protected Ui ui;
+
+    /**
+     * The most item managers that are read at the same time when the app starts.
+     */
+    private static final int MAX_LOADER_THREADS = 5;
+
+    private static final String SAVE_FAILED_MESSAGE = "Failed to save the data to %s: %s\n"
+            + "The changes are kept, and will be saved again after the next command that changes the data, "
+            + "or when the app exits.";
+
+    /**
+     * The ui, which is volatile as the failed background saves are reported
+     * to it from the storage writer thread.
+     */
+    protected volatile Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected LinkSweeper linkSweeper;
 
     @Override
     public void init() throws Exception {
@@ -114,8 +133,9 @@ public class MainApp extends Application {
             );
             return new ItemManager<>();
         } catch (DataConversionException | IOException e) {
-            logger.info(String.format(
-                    "Exception caught while reading data file for %s: %s",
+            logger.warning(String.format(
+                    "No readable generation of the data file for %s, "
+                            + "starting with an empty manager: %s",
                     managerName,
                     e.toString()
             ));
@@ -133,25 +153,108 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If the storage keeps a journal, it is replayed on top of the last snapshot while reading.
+     * The managers are read concurrently, on at most {@code MAX_LOADER_THREADS} threads.
      */
     private Model initModelManager(
             Storage storage,
             ReadOnlyUserPrefs userPrefs
     ) {
-        ReadOnlyItemManager<Pilot> pilotManager =
-                readManager(storage::readPilotManager, "PilotManager");
-        ReadOnlyItemManager<Location> locationManager =
-                readManager(storage::readLocationManager, "LocationManager");
-        ReadOnlyItemManager<Crew> crewManager =
-                readManager(storage::readCrewManager, "CrewManager");
-        ReadOnlyItemManager<Plane> planeManager =
-                readManager(storage::readPlaneManager, "PlaneManager");
-        ReadOnlyItemManager<Flight> flightManager =
-                readManager(storage::readFlightManager, "FlightManager");
-
-        return new ModelManager(userPrefs, pilotManager, locationManager,
-                crewManager, planeManager, flightManager
+        // the managers are in separate files, and their links are only
+        // resolved through the model later, so they can be read at once.
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "manager-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
         );
+        try {
+            Future<ReadOnlyItemManager<Pilot>> pilotManager =
+                    submitReadManager(executor, storage::readPilotManager, "PilotManager");
+            Future<ReadOnlyItemManager<Location>> locationManager =
+                    submitReadManager(executor, storage::readLocationManager, "LocationManager");
+            Future<ReadOnlyItemManager<Crew>> crewManager =
+                    submitReadManager(executor, storage::readCrewManager, "CrewManager");
+            Future<ReadOnlyItemManager<Plane>> planeManager =
+                    submitReadManager(executor, storage::readPlaneManager, "PlaneManager");
+            Future<ReadOnlyItemManager<Flight>> flightManager =
+                    submitReadManager(executor, storage::readFlightManager, "FlightManager");
+
+            return new ModelManager(userPrefs,
+                    awaitManager(pilotManager, "PilotManager"),
+                    awaitManager(locationManager, "LocationManager"),
+                    awaitManager(crewManager, "CrewManager"),
+                    awaitManager(planeManager, "PlaneManager"),
+                    awaitManager(flightManager, "FlightManager")
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads a specified manager on the given executor, logging how long it
+     * took to read.
+     *
+     * @param executor        the executor on which the manager is read
+     * @param managerSupplier the data from which the manager is read
+     * @param managerName     name of the manager
+     * @param <T>             the type of object that the manager manages
+     * @return the manager that will be read
+     */
+    private <T extends Item> Future<ReadOnlyItemManager<T>> submitReadManager(
+            ExecutorService executor,
+            Callable<Optional<? extends ReadOnlyItemManager<T>>> managerSupplier,
+            String managerName
+    ) {
+        return executor.submit(() -> {
+            final long start = System.nanoTime();
+            final ReadOnlyItemManager<T> manager = readManager(managerSupplier, managerName);
+            logger.info(String.format(
+                    "Read %s with %d items in %d ms",
+                    managerName,
+                    manager.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            ));
+            return manager;
+        });
+    }
+
+    /**
+     * Waits for a manager that is being read. As {@code readManager} falls
+     * back to an empty manager on any exception, only errors and
+     * interruptions are left to be handled here.
+     *
+     * @param manager     the manager that is being read
+     * @param managerName name of the manager
+     * @param <T>         the type of object that the manager manages
+     * @return the manager that has been read
+     */
+    private <T extends Item> ReadOnlyItemManager<T> awaitManager(
+            Future<ReadOnlyItemManager<T>> manager,
+            String managerName
+    ) {
+        try {
+            return manager.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning(String.format(
+                    "Interrupted while reading %s, starting with an empty manager.",
+                    managerName
+            ));
+            return new ItemManager<>();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            logger.warning(String.format(
+                    "Unknown Exception: %s.",
+                    e.getCause().getMessage()
+            ));
+            return new ItemManager<>();
+        }
     }
 
     /**
@@ -175,19 +278,29 @@ public class MainApp extends Application {
         FileUtil.createIfMissing(userPrefs.getPlaneManagerFilePath());
         FileUtil.createIfMissing(userPrefs.getLocationManagerFilePath());
         FileUtil.createIfMissing(userPrefs.getFlightManagerFilePath());
-        ItemStorage<Pilot> pilotStorage =
-                new JsonPilotManagerStorage(userPrefs.getPilotManagerFilePath());
-        ItemStorage<Location> locationStorage =
-                new JsonLocationManagerStorage(userPrefs.getLocationManagerFilePath());
-        ItemStorage<Crew> crewStorage =
-                new JsonCrewManagerStorage(userPrefs.getCrewManagerFilePath());
-        ItemStorage<Plane> planeStorage =
-                new JsonPlaneManagerStorage(userPrefs.getPlaneManagerFilePath());
-        ItemStorage<Flight> flightStorage =
-                new JsonFlightManagerStorage(userPrefs.getFlightManagerFilePath());
+        ItemStorage<Pilot> pilotStorage = ItemStorages.createPilotStorage(userPrefs);
+        ItemStorage<Location> locationStorage = ItemStorages.createLocationStorage(userPrefs);
+        ItemStorage<Crew> crewStorage = ItemStorages.createCrewStorage(userPrefs);
+        ItemStorage<Plane> planeStorage = ItemStorages.createPlaneStorage(userPrefs);
+        ItemStorage<Flight> flightStorage = ItemStorages.createFlightStorage(userPrefs);
+        if (!userPrefs.isBackgroundSaveEnabled()) {
+            return new StorageManager(userPrefsStorage, pilotStorage,
+                    locationStorage,
+                    crewStorage, planeStorage, flightStorage
+            );
+        }
+        BackgroundStorageWriter writer = new BackgroundStorageWriter((filePath, e) -> {
+            logger.severe("Failed to save data to " + filePath + ": " + StringUtil.getDetails(e));
+            // the command that made the change has reported success already,
+            // so the user is told separately that it has not been saved.
+            final Ui currentUi = ui;
+            if (currentUi != null) {
+                currentUi.showError(String.format(SAVE_FAILED_MESSAGE, filePath, e.getMessage()));
+            }
+        });
         return new StorageManager(userPrefsStorage, pilotStorage,
                 locationStorage,
-                crewStorage, planeStorage, flightStorage
+                crewStorage, planeStorage, flightStorage, writer
         );
     }
 
@@ -271,17 +384,28 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        linkSweeper = new LinkSweeper(model, Platform::runLater);
+        linkSweeper.start();
     }
 
     @Override
     public void stop() {
         logger.info(
                 "============================ [ Stopping Wingman ] =============================");
+        if (linkSweeper != null) {
+            linkSweeper.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(
                     e));
         }
+        try {
+            // waits for the saves still pending on the background writer.
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
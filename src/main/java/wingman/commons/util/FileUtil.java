@@ -1,10 +1,18 @@
 package wingman.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final String BACKUP_EXTENSION = ".bak";
+
+    /**
+     * Writes the new contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +93,102 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeAtomically(Path, ContentWriter, boolean)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        final byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Returns the path of the temporary file that the new contents of the file are written to.
+     */
+    public static Path getTemporaryPath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the backup that keeps the previous contents of the file.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_EXTENSION);
+    }
+
+    /**
+     * Replaces the contents of a file with what the writer writes, so that the file is never left half written.
+     * The contents are written to a temporary file in the same directory, which is flushed to the disk and then
+     * moved over the file. If the writer or the disk fails, the file is left as it was.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param file        cannot be null.
+     * @param writer      writes the new contents of the file.
+     * @param keepsBackup whether to keep the previous contents of the file, if it is not empty, as its backup.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, boolean keepsBackup) throws IOException {
+        createParentDirsOfFile(file);
+        final Path temporaryFile = getTemporaryPath(file);
+        try (FileChannel channel = FileChannel.open(
+                temporaryFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            final OutputStream out = new BufferedOutputStream(new UnclosableOutputStream(
+                    Channels.newOutputStream(channel)));
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        if (keepsBackup && Files.exists(file) && Files.size(file) > 0) {
+            move(file, getBackupPath(file));
+        }
+        move(temporaryFile, file);
+        syncParentDir(file);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of the parent directory of the file to the disk, so that a move into it survives a crash.
+     * Does nothing on platforms where directories cannot be opened, such as Windows.
+     */
+    private static void syncParentDir(Path file) {
+        final Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move has been made, and will reach the disk eventually.
+        }
+    }
+
+    /**
+     * A stream that is only flushed when it is closed, so that a writer closing it does not close the file before
+     * it is flushed to the disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -3,10 +3,12 @@ package wingman.commons.util;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
 
 /**
  * The singleton instance that wraps around the {@code JsonUtil} class.
@@ -39,6 +41,26 @@ public class JsonHelper {
         JsonUtil.saveJsonFile(jsonFile, filePath);
     }
 
+    /**
+     * @see JsonUtil#readJsonArrayFile(Path, String, Class, JsonUtil.ElementHandler)
+     */
+    public <T> boolean readJsonArrayFile(
+            Path filePath, String arrayName, Class<T> elementClass,
+            JsonUtil.ElementHandler<? super T> handler
+    ) throws DataConversionException, IllegalValueException {
+        return JsonUtil.readJsonArrayFile(filePath, arrayName, elementClass, handler);
+    }
+
+    /**
+     * @see JsonUtil#saveJsonArrayFile(Path, String, Iterable, Function)
+     */
+    public <T> void saveJsonArrayFile(
+            Path filePath, String arrayName, Iterable<? extends T> elements,
+            Function<? super T, ?> adapter
+    ) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, arrayName, elements, adapter);
+    }
+
     /**
      * @see JsonUtil#fromJsonString(String, Class)
      */
@@ -52,4 +74,11 @@ public class JsonHelper {
     public <T> String toJsonString(T jsonFile) throws JsonProcessingException {
         return JsonUtil.toJsonString(jsonFile);
     }
+
+    /**
+     * @see JsonUtil#toCompactJsonString(Object)
+     */
+    public <T> String toCompactJsonString(T jsonFile) throws JsonProcessingException {
+        return JsonUtil.toCompactJsonString(jsonFile);
+    }
 }
@@ -2,19 +2,28 @@ package wingman.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import wingman.commons.core.LogsCenter;
 import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,13 +49,34 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * The writer of the elements of an array written by
+     * {@link #saveJsonArrayFile}, which does not flush the file after each
+     * element.
+     */
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    /**
+     * Handles an element of an array that is read from a JSON file.
+     *
+     * @param <T> the type of the element.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeAtomically(jsonFile, out ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize), false);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -90,6 +121,101 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the elements of the array in the given field of the JSON object
+     * in the file one at a time, and passes each of them to the handler
+     * before the next one is read. Only one element is thus held in memory
+     * at any time, however large the file is. The other fields of the
+     * object are skipped, and so are null elements.
+     *
+     * @param filePath     cannot be null.
+     * @param arrayName    the name of the field that holds the array.
+     * @param elementClass the class of the elements of the array.
+     * @param handler      the handler of each element.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException   if the handler throws.
+     */
+    public static <T> boolean readJsonArrayFile(
+            Path filePath, String arrayName, Class<T> elementClass,
+            ElementHandler<? super T> handler
+    ) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(handler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw JsonMappingException.from(parser, "Expected an array in field " + arrayName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    final T element = objectMapper.readValue(parser, elementClass);
+                    if (element != null) {
+                        handler.handle(element);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Saves the given elements as the array in the given field of a JSON
+     * object in the file. Each element is converted by the adapter and
+     * written before the next one is converted, so that only one converted
+     * element is held in memory at any time.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, and its previous contents are kept as
+     * its backup, see {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter, boolean)}.
+     *
+     * @param filePath  cannot be null.
+     * @param arrayName the name of the field that holds the array.
+     * @param elements  the elements to be saved.
+     * @param adapter   the function that converts an element into the
+     *                  object that is written for it.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static <T> void saveJsonArrayFile(
+            Path filePath, String arrayName, Iterable<? extends T> elements,
+            Function<? super T, ?> adapter
+    ) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(elements);
+        requireNonNull(adapter);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeFieldName(arrayName);
+                generator.writeStartArray();
+                for (T element : elements) {
+                    elementWriter.writeValue(generator, adapter.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, true);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +236,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace
+     * or line breaks, so that it fits on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,5 +1,7 @@
 package wingman.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import wingman.commons.core.GuiSettings;
 import wingman.logic.core.CommandResult;
@@ -27,6 +29,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as one batch, saving only once after all of them
+     * have succeeded. If any of them fails, none of them take effect.
+     *
+     * @param commandTexts the commands, one per line.
+     * @return the result of the batch.
+     * @throws CommandException If a command cannot be parsed or fails, or if
+     *                          an error occurs during saving.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
     /**
      * Returns the user prefs' GUI settings.
      */
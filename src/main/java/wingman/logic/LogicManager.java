@@ -1,18 +1,23 @@
 package wingman.logic;
 
 import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import wingman.commons.core.GuiSettings;
 import wingman.commons.core.LogsCenter;
 import wingman.logic.core.Command;
+import wingman.logic.core.CommandBatch;
 import wingman.logic.core.CommandResult;
 import wingman.logic.core.WingmanParser;
 import wingman.logic.core.exceptions.CommandException;
 import wingman.logic.core.exceptions.ParseException;
 import wingman.model.Model;
 import wingman.model.OperationMode;
+import wingman.model.ReadOnlyItemManager;
 import wingman.model.crew.Crew;
 import wingman.model.flight.Flight;
 import wingman.model.item.Item;
@@ -32,6 +37,16 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final WingmanParser parser;
+    /**
+     * The version of each item manager at the time it was last written to
+     * the storage. Keyed by identity, as the managers compare by content.
+     */
+    private final Map<ReadOnlyItemManager<?>, Long> savedVersions = new IdentityHashMap<>();
+    /**
+     * The operation mode at the time the user prefs were last written to the
+     * storage.
+     */
+    private OperationMode savedOperationMode;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
@@ -45,6 +60,12 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         this.parser = parser;
+        markSaved(model.getPilotManager());
+        markSaved(model.getPlaneManager());
+        markSaved(model.getCrewManager());
+        markSaved(model.getLocationManager());
+        markSaved(model.getFlightManager());
+        this.savedOperationMode = model.getOperationMode();
     }
 
     /**
@@ -66,24 +87,78 @@ public class LogicManager implements Logic {
         return result;
     }
 
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        final CommandResult result = new CommandBatch(parser).execute(model, commandTexts);
+        this.save();
+        return result;
+    }
+
     /**
-     * Saves the current state of the application to the storage.
+     * Saves the current state of the application to the storage. Only the
+     * item managers that have been modified since they were last saved are
+     * written; the user prefs are written only if the operation mode has
+     * changed, the rest of them being saved when the app stops.
      *
      * @throws CommandException if there was an error during saving.
      */
     private void save() throws CommandException {
         try {
-            storage.savePilotManager(model.getPilotManager());
-            storage.savePlaneManager(model.getPlaneManager());
-            storage.saveCrewManager(model.getCrewManager());
-            storage.saveLocationManager(model.getLocationManager());
-            storage.saveFlightManager(model.getFlightManager());
-            storage.saveUserPrefs(model.getUserPrefs());
+            saveIfModified(model.getPilotManager(), storage::savePilotManager);
+            saveIfModified(model.getPlaneManager(), storage::savePlaneManager);
+            saveIfModified(model.getCrewManager(), storage::saveCrewManager);
+            saveIfModified(model.getLocationManager(), storage::saveLocationManager);
+            saveIfModified(model.getFlightManager(), storage::saveFlightManager);
+            if (model.getOperationMode() != savedOperationMode) {
+                storage.saveUserPrefs(model.getUserPrefs());
+                savedOperationMode = model.getOperationMode();
+            }
         } catch (IOException e) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + e, e);
         }
     }
 
+    /**
+     * Saves the given manager with the given saver if it has been modified
+     * since it was last saved.
+     *
+     * @param manager the manager to save.
+     * @param saver   the function that writes the manager to the storage.
+     * @param <T>     the type of the items in the manager.
+     * @throws IOException if there was an error during saving.
+     */
+    private <T extends Item> void saveIfModified(
+            ReadOnlyItemManager<T> manager,
+            ManagerSaver<T> saver
+    ) throws IOException {
+        final Long savedVersion = savedVersions.get(manager);
+        if (savedVersion != null && savedVersion == manager.getVersion()) {
+            return;
+        }
+        logger.fine("Saving modified manager: " + manager.getClass().getSimpleName());
+        saver.save(manager);
+        markSaved(manager);
+    }
+
+    /**
+     * Records the current version of the given manager as saved.
+     *
+     * @param manager the manager that is in sync with the storage.
+     */
+    private void markSaved(ReadOnlyItemManager<?> manager) {
+        savedVersions.put(manager, manager.getVersion());
+    }
+
+    /**
+     * Writes an item manager to the storage.
+     *
+     * @param <T> the type of the items in the manager.
+     */
+    @FunctionalInterface
+    private interface ManagerSaver<T extends Item> {
+        void save(ReadOnlyItemManager<T> manager) throws IOException;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
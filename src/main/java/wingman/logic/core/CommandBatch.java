@@ -0,0 +1,92 @@
+package wingman.logic.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.model.Model;
+
+/**
+ * Runs a batch of commands, e.g. the lines of a script, as one transaction.
+ * <p>
+ * The commands are parsed and executed one after another, each in the
+ * operation mode that the model is in after the commands before it, so that
+ * a {@code mode} command applies to the commands that follow it. If any
+ * command fails, the model is restored to its state before the batch, so
+ * that either all or none of the commands take effect.
+ * <p>
+ * The batch does not save the model: the caller saves it once, after the
+ * whole batch has succeeded. Blank lines, and lines that start with
+ * {@value #COMMENT_PREFIX}, are skipped.
+ */
+public class CommandBatch {
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final String SUCCESS_MESSAGE = "Ran %d commands.";
+    private static final String FAILED_MESSAGE = "Line %d: %s\nNone of the commands were run.";
+
+    private final Logger logger = LogsCenter.getLogger(CommandBatch.class);
+
+    /**
+     * The parser of the commands.
+     */
+    private final WingmanParser parser;
+
+    /**
+     * Creates a batch that parses the commands with the given parser.
+     *
+     * @param parser the parser of the commands.
+     */
+    public CommandBatch(WingmanParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Executes the given commands on the model, restoring the model if any
+     * of them fails.
+     *
+     * @param model        the model to execute the commands on.
+     * @param commandTexts the commands, one per line.
+     * @return the result of the batch.
+     * @throws CommandException if a command cannot be parsed or fails, with
+     *                          the line number of the command.
+     */
+    public CommandResult execute(Model model, List<String> commandTexts) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(commandTexts);
+        final ModelSnapshot snapshot = ModelSnapshot.of(model);
+        boolean isCommitted = false;
+        int commandCount = 0;
+        try {
+            for (int i = 0; i < commandTexts.size(); i++) {
+                final String commandText = commandTexts.get(i);
+                if (isSkipped(commandText)) {
+                    continue;
+                }
+                try {
+                    parser.parse(model.getOperationMode(), commandText).execute(model);
+                } catch (ParseException | CommandException e) {
+                    throw new CommandException(String.format(FAILED_MESSAGE, i + 1, e.getMessage()), e);
+                }
+                commandCount++;
+            }
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                logger.info("Rolling back a batch after " + commandCount + " commands");
+                snapshot.restore(model);
+            }
+        }
+        logger.info("Ran a batch of " + commandCount + " commands");
+        return new CommandResult(String.format(SUCCESS_MESSAGE, commandCount));
+    }
+
+    private static boolean isSkipped(String commandText) {
+        final String trimmed = commandText.trim();
+        return trimmed.isEmpty() || trimmed.startsWith(COMMENT_PREFIX);
+    }
+}
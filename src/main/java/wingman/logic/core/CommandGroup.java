@@ -20,9 +20,9 @@ public class CommandGroup extends FactoryParser {
     private final OperationMode mode;
 
     /**
-     * The list of factories responsible for creating commands.
-     * Since we won't be having too many commands, using a list would be
-     * faster than using a map.
+     * The list of factories responsible for creating commands. The
+     * factories are looked up by their command words through the index
+     * that {@link FactoryParser} builds from this list.
      */
     private final List<CommandFactory<?>> factories;
 
@@ -73,102 +73,57 @@ public class CommandParam {
                     Optional.empty()
             );
         }
-        // set up
-        Set<String> prefixMap = prefixes.get();
-        // handle the unnamed token
-        Optional<String> unnamedValue =
-                parseUnnamedValue(tokens, prefixMap);
-        // handle the named tokens
-        Map<String, Optional<String>> namedValues =
-                parseNamedValues(tokens, prefixMap);
-        return new CommandParam(unnamedValue, Optional.of(namedValues));
-    }
-
-    /**
-     * Parses the unnamed value from the given tokens. The unnamed value is
-     * the part right after the command word and before the first prefix.
-     * Note that it is assumed that the tokens already have the command word
-     * removed. The prefix set is used to determine when the unnamed value
-     * ends.
-     *
-     * @param tokens   the tokens of the command, with the command word
-     *                 removed.
-     * @param prefixes the prefixes of the command.
-     * @return the unnamed value parsed.
-     */
-    private static Optional<String> parseUnnamedValue(
-            Deque<String> tokens,
-            Set<String> prefixes
-    ) throws ParseException {
-        if (tokens.size() == 0) {
-            return Optional.empty();
-        }
-        final StringBuilder builder = new StringBuilder();
-        while (tokens.size() > 0) {
-            if (prefixes.contains(tokens.peek())) {
-                break;
+        final Set<String> prefixSet = prefixes.get();
+        final Map<String, Optional<String>> namedValues = new HashMap<>();
+        final ValueBuilder value = new ValueBuilder();
+        Optional<String> unnamedValue = Optional.empty();
+        // the prefix of the value being read, or null for the unnamed value
+        String prefix = null;
+        while (!tokens.isEmpty()) {
+            final String token = tokens.pop();
+            if (!prefixSet.contains(token)) {
+                value.add(token);
+                continue;
+            }
+            if (prefix == null) {
+                unnamedValue = value.build();
+            } else {
+                putNamedValue(namedValues, prefix, value.build().orElse(""));
             }
-            builder.append(tokens.pop()).append(" ");
+            prefix = token;
+            value.clear();
         }
-        if (builder.length() == 0) {
-            return Optional.empty();
+        final Optional<String> lastValue = value.build();
+        if (prefix == null) {
+            unnamedValue = lastValue;
+        } else if (lastValue.isPresent()) {
+            putNamedValue(namedValues, prefix, lastValue.get());
         }
-        return Optional.of(builder.toString().trim());
+        return new CommandParam(
+                unnamedValue,
+                Optional.of(padNamedValues(namedValues, prefixSet))
+        );
     }
 
     /**
-     * Parses the named values from the given tokens. The named values are
-     * the parts right after the prefixes and before the next prefix. Note
-     * that it is assumed that the tokens already have the command word
-     * and the unnamed value removed.
+     * Puts the value of a prefix into the named values.
      *
-     * @param tokens   the tokens of the command, with the command word and
-     *                 the unnamed value removed.
-     * @param prefixes the prefixes of the command.
-     * @return the named values parsed.
+     * @param namedValues the named values to put into.
+     * @param prefix      the prefix of the value.
+     * @param value       the value of the prefix.
+     * @throws ParseException if the prefix already has a value.
      */
-    private static Map<String, Optional<String>> parseNamedValues(
-            Deque<String> tokens,
-            Set<String> prefixes
+    private static void putNamedValue(
+            Map<String, Optional<String>> namedValues,
+            String prefix,
+            String value
     ) throws ParseException {
-        if (tokens.size() == 0) {
-            return padNamedValues(new HashMap<>(), prefixes);
-        }
-        Map<String, Optional<String>> namedValues = new HashMap<>();
-        String prefix = tokens.pop();
-        // just to be defensive, despite the assumption
-        while (!prefixes.contains(prefix)) {
-            prefix = tokens.pop();
-        }
-        final StringBuilder builder = new StringBuilder();
-        while (tokens.size() > 0) {
-            if (!prefixes.contains(tokens.peek())) {
-                builder.append(tokens.pop()).append(" ");
-                continue;
-            }
-            // check if it is already in there.
-            if (namedValues.containsKey(prefix)
-                        && namedValues.get(prefix).isPresent()) {
-                throw ParseException.formatted(
-                        "Found duplicated keys: %s",
-                        prefix
-                );
-            }
-            namedValues.put(prefix, Optional.of(builder.toString().trim()));
-            prefix = tokens.pop();
-            builder.setLength(0);
-        }
-        if (builder.length() > 0) {
-            if (namedValues.containsKey(prefix)
-                        && namedValues.get(prefix).isPresent()) {
-                throw ParseException.formatted(
-                        "Found duplicated keys: %s",
-                        prefix
-                );
-            }
-            namedValues.put(prefix, Optional.of(builder.toString().trim()));
+        if (namedValues.putIfAbsent(prefix, Optional.of(value)) != null) {
+            throw ParseException.formatted(
+                    "Found duplicated keys: %s",
+                    prefix
+            );
         }
-        return padNamedValues(namedValues, prefixes);
     }
 
     /**
@@ -348,4 +303,44 @@ public class CommandParam {
         return unnamedValue.equals(otherCommandParam.unnamedValue)
                        && namedValues.equals(otherCommandParam.namedValues);
     }
+
+    /**
+     * Joins the tokens of a value with single spaces. A value of a single
+     * token, which is the common case, is used as it is, without copying it.
+     */
+    private static final class ValueBuilder {
+        private final StringBuilder builder = new StringBuilder();
+        private String first;
+        private int count;
+
+        private void add(String token) {
+            if (count == 0) {
+                first = token;
+            } else {
+                if (count == 1) {
+                    builder.append(first);
+                }
+                builder.append(' ').append(token);
+            }
+            count++;
+        }
+
+        /**
+         * Returns the joined value, or an empty {@code Optional} if there
+         * are no tokens.
+         */
+        private Optional<String> build() {
+            if (count == 0) {
+                return Optional.empty();
+            }
+            final String value = count == 1 ? first : builder.toString();
+            return Optional.of(value.trim());
+        }
+
+        private void clear() {
+            builder.setLength(0);
+            first = null;
+            count = 0;
+        }
+    }
 }
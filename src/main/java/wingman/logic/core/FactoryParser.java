@@ -3,7 +3,9 @@ package wingman.logic.core;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import wingman.logic.core.exceptions.CommandException;
@@ -14,6 +16,12 @@ import wingman.logic.core.exceptions.ParseException;
  * factories.
  */
 public abstract class FactoryParser {
+    /**
+     * The factories of this parser by their command words, built from the
+     * list of factories it was last built from.
+     */
+    private FactoryIndex index;
+
     /**
      * Gets the list of factories that this parser handles.
      *
@@ -36,15 +44,48 @@ public abstract class FactoryParser {
         if (tokens.isEmpty()) {
             throw new ParseException("Tokens is empty");
         }
-        String commandWord = tokens.peek();
-        for (CommandFactory<?> factory : getFactories()) {
-            if (commandWord.equals(factory.getCommandWord())) {
-                tokens.pop();
-                final CommandParam param =
-                        CommandParam.from(tokens, factory.getPrefixes());
-                return Optional.of(factory.createCommand(param));
+        final CommandFactory<?> factory = getIndex().get(tokens.peek());
+        if (factory == null) {
+            return Optional.empty();
+        }
+        tokens.pop();
+        final CommandParam param =
+                CommandParam.from(tokens, factory.getPrefixes());
+        return Optional.of(factory.createCommand(param));
+    }
+
+    /**
+     * Returns the factories by their command words, indexing them again if
+     * a different list of factories is returned by {@link #getFactories()}.
+     */
+    private FactoryIndex getIndex() {
+        final List<CommandFactory<?>> factories = getFactories();
+        FactoryIndex current = index;
+        if (current == null || current.factories != factories) {
+            current = new FactoryIndex(factories);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * The factories of a list by their command words. If two factories have
+     * the same command word, the first one in the list is used.
+     */
+    private static final class FactoryIndex {
+        private final List<CommandFactory<?>> factories;
+        private final Map<String, CommandFactory<?>> byCommandWord;
+
+        private FactoryIndex(List<CommandFactory<?>> factories) {
+            this.factories = factories;
+            this.byCommandWord = new HashMap<>();
+            for (CommandFactory<?> factory : factories) {
+                byCommandWord.putIfAbsent(factory.getCommandWord(), factory);
             }
         }
-        return Optional.empty();
+
+        private CommandFactory<?> get(String commandWord) {
+            return byCommandWord.get(commandWord);
+        }
     }
 }
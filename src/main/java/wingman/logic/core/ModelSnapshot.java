@@ -0,0 +1,97 @@
+package wingman.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.ItemManager;
+import wingman.model.Model;
+import wingman.model.OperationMode;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+import wingman.storage.json.JsonAdaptedModel;
+import wingman.storage.json.adapted.JsonAdaptedCrew;
+import wingman.storage.json.adapted.JsonAdaptedFlight;
+import wingman.storage.json.adapted.JsonAdaptedLocation;
+import wingman.storage.json.adapted.JsonAdaptedPilot;
+import wingman.storage.json.adapted.JsonAdaptedPlane;
+
+/**
+ * A copy of the items and the operation mode of a model, which the model
+ * can be restored to.
+ * <p>
+ * The items are copied in their JSON adapted form, as commands change
+ * items in place, e.g. the links of a flight or the availability of a
+ * pilot. Restoring the model thus replaces its items with new ones, just as
+ * reading them from the data files does.
+ */
+final class ModelSnapshot {
+    private static final String RESTORE_FAILED_MESSAGE = "Could not restore an item from the snapshot: %s";
+
+    private final OperationMode operationMode;
+    private final List<JsonAdaptedPilot> pilots;
+    private final List<JsonAdaptedLocation> locations;
+    private final List<JsonAdaptedCrew> crew;
+    private final List<JsonAdaptedPlane> planes;
+    private final List<JsonAdaptedFlight> flights;
+
+    private ModelSnapshot(Model model) {
+        this.operationMode = model.getOperationMode();
+        this.pilots = copy(model.getPilotManager(), JsonAdaptedPilot::new);
+        this.locations = copy(model.getLocationManager(), JsonAdaptedLocation::new);
+        this.crew = copy(model.getCrewManager(), JsonAdaptedCrew::new);
+        this.planes = copy(model.getPlaneManager(), JsonAdaptedPlane::new);
+        this.flights = copy(model.getFlightManager(), JsonAdaptedFlight::new);
+    }
+
+    /**
+     * Takes a snapshot of the given model.
+     *
+     * @param model the model to take a snapshot of.
+     * @return the snapshot of the model.
+     */
+    static ModelSnapshot of(Model model) {
+        return new ModelSnapshot(model);
+    }
+
+    /**
+     * Restores the given model to this snapshot, replacing all of its items.
+     *
+     * @param model the model to restore.
+     */
+    void restore(Model model) {
+        model.setPilotManager(restore(pilots));
+        model.setLocationManager(restore(locations));
+        model.setCrewManager(restore(crew));
+        model.setPlaneManager(restore(planes));
+        model.setFlightManager(restore(flights));
+        model.setOperationMode(operationMode);
+    }
+
+    private static <T extends Item, F extends JsonAdaptedModel<T>> List<F> copy(
+            ReadOnlyItemManager<T> manager,
+            Function<T, F> adapter
+    ) {
+        final List<F> copies = new ArrayList<>(manager.size());
+        for (T item : manager.getItemList()) {
+            copies.add(adapter.apply(item));
+        }
+        return copies;
+    }
+
+    private static <T extends Item> ItemManager<T> restore(List<? extends JsonAdaptedModel<T>> copies) {
+        final List<T> items = new ArrayList<>(copies.size());
+        try {
+            for (JsonAdaptedModel<T> copy : copies) {
+                items.add(copy.toModelType());
+            }
+        } catch (IllegalValueException e) {
+            // the copies were made from valid items, so this should not happen.
+            throw new IllegalStateException(String.format(RESTORE_FAILED_MESSAGE, e.getMessage()), e);
+        }
+        final ItemManager<T> manager = new ItemManager<>();
+        manager.setItems(items);
+        return manager;
+    }
+}
@@ -1,9 +1,10 @@
 package wingman.logic.core;
 
 import java.util.ArrayDeque;
-import java.util.Arrays;
 import java.util.Deque;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import wingman.logic.core.exceptions.CommandException;
@@ -17,7 +18,10 @@ import wingman.logic.plane.linkflight.PlaneFlightLinkCommandFactory;
 import wingman.logic.plane.linklocation.PlaneLocationLinkCommandFactory;
 import wingman.logic.toplevel.add.AddCommandFactory;
 import wingman.logic.toplevel.changemode.ChangeModeCommandFactory;
+import wingman.logic.toplevel.convert.ConvertCommandFactory;
 import wingman.logic.toplevel.delete.DeleteCommandFactory;
+import wingman.logic.toplevel.find.FindCommandFactory;
+import wingman.logic.toplevel.run.RunCommandFactory;
 import wingman.logic.toplevel.syntax.CrewSyntax;
 import wingman.logic.toplevel.syntax.FlightSyntax;
 import wingman.logic.toplevel.syntax.LocationSyntax;
@@ -47,6 +51,10 @@ public class WingmanParser extends FactoryParser {
                                     PilotSyntax::getManager,
                                     PilotSyntax::delete
                             ),
+                            new FindCommandFactory<>(
+                                    PilotSyntax::find,
+                                    PilotSyntax::filter
+                            ),
                             PilotFlightLinkCommandFactory.linkFactory(),
                             PilotFlightLinkCommandFactory.unlinkFactory(),
                             PilotLocationLinkCommandFactory.linkFactory(),
@@ -66,6 +74,10 @@ public class WingmanParser extends FactoryParser {
                                     CrewSyntax::getManager,
                                     CrewSyntax::delete
                             ),
+                            new FindCommandFactory<>(
+                                    CrewSyntax::find,
+                                    CrewSyntax::filter
+                            ),
                             CrewFlightLinkCommandFactory.linkFactory(),
                             CrewFlightLinkCommandFactory.unlinkFactory(),
                             CrewLocationLinkCommandFactory.linkFactory(),
@@ -85,6 +97,10 @@ public class WingmanParser extends FactoryParser {
                                     PlaneSyntax::getManager,
                                     PlaneSyntax::delete
                             ),
+                            new FindCommandFactory<>(
+                                    PlaneSyntax::find,
+                                    PlaneSyntax::filter
+                            ),
                             PlaneFlightLinkCommandFactory.linkFactory(),
                             PlaneFlightLinkCommandFactory.unlinkFactory(),
                             PlaneLocationLinkCommandFactory.linkFactory(),
@@ -103,6 +119,10 @@ public class WingmanParser extends FactoryParser {
                             new DeleteCommandFactory<>(
                                     LocationSyntax::getManager,
                                     LocationSyntax::delete
+                            ),
+                            new FindCommandFactory<>(
+                                    LocationSyntax::find,
+                                    LocationSyntax::filter
                             )
                     )
             ),
@@ -119,6 +139,10 @@ public class WingmanParser extends FactoryParser {
                                     FlightSyntax::getManager,
                                     FlightSyntax::delete
                             ),
+                            new FindCommandFactory<>(
+                                    FlightSyntax::find,
+                                    FlightSyntax::filter
+                            ),
                             FlightLocationLinkCommandFactory.linkFactory(),
                             FlightLocationLinkCommandFactory.unlinkFactory()
                     )
@@ -128,13 +152,16 @@ public class WingmanParser extends FactoryParser {
      * The top level command factories that are available in the application.
      */
     private static final List<CommandFactory<?>> COMMAND_FACTORIES = List.of(
-            new ChangeModeCommandFactory()
+            new ChangeModeCommandFactory(),
+            new ConvertCommandFactory(),
+            new RunCommandFactory()
     );
 
     /**
-     * The command groups that are available in the application.
+     * The command groups that are available in the application, by the
+     * operation mode they are for.
      */
-    private final List<CommandGroup> groups;
+    private final Map<OperationMode, CommandGroup> groups;
 
     /**
      * The list of top-level factories that produces commands.
@@ -153,7 +180,10 @@ public class WingmanParser extends FactoryParser {
             List<CommandGroup> commandGroups,
             List<CommandFactory<?>> factories
     ) {
-        this.groups = commandGroups;
+        this.groups = new EnumMap<>(OperationMode.class);
+        for (CommandGroup commandGroup : commandGroups) {
+            this.groups.putIfAbsent(commandGroup.getOperationMode(), commandGroup);
+        }
         this.factories = factories;
     }
 
@@ -171,12 +201,45 @@ public class WingmanParser extends FactoryParser {
      * being unable to recover back to the original user input, i.e. if the
      * user used different whitespace characters other than spaces. However,
      * for the purpose of this application, this is acceptable.
+     * <p>
+     * The input is scanned once, without a regular expression, but the
+     * tokens are the same as those of splitting the input by {@code \s+}:
+     * an empty input gives a single empty token, and leading whitespace
+     * gives an empty first token.
      *
      * @param userInput the user input to tokenize.
      * @return a {@code Deque} of {@code String}s that contains the tokens.
      */
-    private static Deque<String> tokenize(String userInput) {
-        return new ArrayDeque<>(Arrays.asList(userInput.split("\\s+")));
+    static Deque<String> tokenize(String userInput) {
+        final Deque<String> tokens = new ArrayDeque<>();
+        final int length = userInput.length();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (!isWhitespace(userInput.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start >= 0) {
+                tokens.add(userInput.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(userInput.substring(start));
+        }
+        if (length == 0 || !tokens.isEmpty() && isWhitespace(userInput.charAt(0))) {
+            tokens.addFirst("");
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns whether the character is one that {@code \s} matches.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -228,13 +291,11 @@ public class WingmanParser extends FactoryParser {
             OperationMode operationMode,
             Deque<String> tokens
     ) throws ParseException, CommandException {
-        for (CommandGroup commandGroup : this.groups) {
-            if (!commandGroup.getOperationMode().equals(operationMode)) {
-                continue;
-            }
-            return Optional.of(commandGroup.parse(tokens));
+        final CommandGroup commandGroup = this.groups.get(operationMode);
+        if (commandGroup == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(commandGroup.parse(tokens));
     }
 
     @Override
@@ -60,10 +60,13 @@ public class LinkCrewToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
-                flight.crewLink.putRevolve(entry.getKey(), entry.getValue());
-                entry.getValue().setUnavailable();
-            }
+            flight.crewLink.batch(() -> {
+                for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
+                    flight.crewLink.putRevolve(entry.getKey(), entry.getValue());
+                    entry.getValue().setUnavailable();
+                    model.updateCrew(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         } catch (IndexOutOfBoundException e) {
@@ -58,10 +58,13 @@ public class UnlinkCrewToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
-                flight.crewLink.delete(entry.getKey(), entry.getValue());
-                entry.getValue().setAvailable();
-            }
+            flight.crewLink.batch(() -> {
+                for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
+                    flight.crewLink.delete(entry.getKey(), entry.getValue());
+                    entry.getValue().setAvailable();
+                    model.updateCrew(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
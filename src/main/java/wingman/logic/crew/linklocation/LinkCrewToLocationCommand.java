@@ -58,11 +58,13 @@ public class LinkCrewToLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
-                location
-                        .getCrewLink()
-                        .putRevolve(entry.getKey(), entry.getValue());
-            }
+            location.getCrewLink().batch(() -> {
+                for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
+                    location
+                            .getCrewLink()
+                            .putRevolve(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
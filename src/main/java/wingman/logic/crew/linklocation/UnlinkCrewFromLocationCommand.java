@@ -59,9 +59,11 @@ public class UnlinkCrewFromLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
-                location.getCrewLink().delete(entry.getKey(), entry.getValue());
-            }
+            location.getCrewLink().batch(() -> {
+                for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
+                    location.getCrewLink().delete(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
@@ -59,10 +59,13 @@ public class LinkPilotToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightPilotType, Pilot> entry : pilots.entrySet()) {
-                flight.pilotLink.putRevolve(entry.getKey(), entry.getValue());
-                entry.getValue().setUnavailable();
-            }
+            flight.pilotLink.batch(() -> {
+                for (Map.Entry<FlightPilotType, Pilot> entry : pilots.entrySet()) {
+                    flight.pilotLink.putRevolve(entry.getKey(), entry.getValue());
+                    entry.getValue().setUnavailable();
+                    model.updatePilot(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
@@ -58,10 +58,13 @@ public class UnlinkPilotToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightPilotType, Pilot> entry : pilots.entrySet()) {
-                flight.pilotLink.delete(entry.getKey(), entry.getValue());
-                entry.getValue().setAvailable();
-            }
+            flight.pilotLink.batch(() -> {
+                for (Map.Entry<FlightPilotType, Pilot> entry : pilots.entrySet()) {
+                    flight.pilotLink.delete(entry.getKey(), entry.getValue());
+                    entry.getValue().setAvailable();
+                    model.updatePilot(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
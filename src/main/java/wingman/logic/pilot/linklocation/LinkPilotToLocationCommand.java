@@ -58,11 +58,13 @@ public class LinkPilotToLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
-                location
-                        .getPilotLink()
-                        .putRevolve(entry.getKey(), entry.getValue());
-            }
+            location.getPilotLink().batch(() -> {
+                for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
+                    location
+                            .getPilotLink()
+                            .putRevolve(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
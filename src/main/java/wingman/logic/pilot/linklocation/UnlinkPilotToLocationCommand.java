@@ -63,11 +63,13 @@ public class UnlinkPilotToLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
-                location
-                        .getPilotLink()
-                        .delete(entry.getKey(), entry.getValue());
-            }
+            location.getPilotLink().batch(() -> {
+                for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
+                    location
+                            .getPilotLink()
+                            .delete(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
@@ -60,10 +60,13 @@ public class LinkPlaneToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightPlaneType, Plane> entry : planes.entrySet()) {
-                flight.planeLink.putRevolve(entry.getKey(), entry.getValue());
-                entry.getValue().setUnavailable();
-            }
+            flight.planeLink.batch(() -> {
+                for (Map.Entry<FlightPlaneType, Plane> entry : planes.entrySet()) {
+                    flight.planeLink.putRevolve(entry.getKey(), entry.getValue());
+                    entry.getValue().setUnavailable();
+                    model.updatePlane(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
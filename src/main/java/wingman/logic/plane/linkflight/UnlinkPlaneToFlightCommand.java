@@ -58,10 +58,13 @@ public class UnlinkPlaneToFlightCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<FlightPlaneType, Plane> entry : planes.entrySet()) {
-                flight.planeLink.delete(entry.getKey(), entry.getValue());
-                entry.getValue().setAvailable();
-            }
+            flight.planeLink.batch(() -> {
+                for (Map.Entry<FlightPlaneType, Plane> entry : planes.entrySet()) {
+                    flight.planeLink.delete(entry.getKey(), entry.getValue());
+                    entry.getValue().setAvailable();
+                    model.updatePlane(entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
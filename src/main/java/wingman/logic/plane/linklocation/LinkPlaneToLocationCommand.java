@@ -58,11 +58,13 @@ public class LinkPlaneToLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<PlaneLocationType, Plane> entry : plane.entrySet()) {
-                location
-                        .getPlaneLink()
-                        .putRevolve(entry.getKey(), entry.getValue());
-            }
+            location.getPlaneLink().batch(() -> {
+                for (Map.Entry<PlaneLocationType, Plane> entry : plane.entrySet()) {
+                    location
+                            .getPlaneLink()
+                            .putRevolve(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
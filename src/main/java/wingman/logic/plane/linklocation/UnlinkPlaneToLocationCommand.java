@@ -59,11 +59,13 @@ public class UnlinkPlaneToLocationCommand implements Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            for (Map.Entry<PlaneLocationType, Plane> entry : plane.entrySet()) {
-                location
-                        .getPlaneLink()
-                        .delete(entry.getKey(), entry.getValue());
-            }
+            location.getPlaneLink().batch(() -> {
+                for (Map.Entry<PlaneLocationType, Plane> entry : plane.entrySet()) {
+                    location
+                            .getPlaneLink()
+                            .delete(entry.getKey(), entry.getValue());
+                }
+            });
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
         }
@@ -0,0 +1,59 @@
+package wingman.logic.toplevel.convert;
+
+import java.io.IOException;
+
+import wingman.commons.fp.Lazy;
+import wingman.logic.core.Command;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.model.Model;
+import wingman.model.StorageMode;
+import wingman.model.UserPrefs;
+import wingman.storage.Storage;
+
+/**
+ * The command that converts the data files to another storage mode, e.g.
+ * from JSON to binary, and keeps saving in that mode from then on.
+ */
+public class ConvertCommand implements Command {
+    private static final String CONVERTED_MESSAGE = "Converted the data files to %s.";
+    private static final String FAILED_MESSAGE = "Failed to convert the data files to %s: %s";
+
+    /**
+     * The storage mode to convert to.
+     */
+    private final StorageMode mode;
+
+    private final Lazy<Storage> storageLazy;
+
+    /**
+     * Creates a command that converts the data files with the given storage.
+     *
+     * @param mode        the storage mode to convert to.
+     * @param storageLazy the storage of the app.
+     */
+    public ConvertCommand(StorageMode mode, Lazy<Storage> storageLazy) {
+        this.mode = mode;
+        this.storageLazy = storageLazy;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        final UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setStorageMode(mode);
+        try {
+            storageLazy.get().convertItemStorages(
+                    userPrefs,
+                    model.getPilotManager(),
+                    model.getLocationManager(),
+                    model.getCrewManager(),
+                    model.getPlaneManager(),
+                    model.getFlightManager()
+            );
+        } catch (IOException e) {
+            throw new CommandException(String.format(FAILED_MESSAGE, mode, e.getMessage()));
+        }
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(CONVERTED_MESSAGE, mode));
+    }
+}
@@ -0,0 +1,63 @@
+package wingman.logic.toplevel.convert;
+
+import java.util.Optional;
+import java.util.Set;
+
+import wingman.commons.fp.Lazy;
+import wingman.commons.util.GetUtil;
+import wingman.logic.core.CommandFactory;
+import wingman.logic.core.CommandParam;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.model.StorageMode;
+import wingman.storage.Storage;
+
+/**
+ * The factory that's responsible for creating a {@code ConvertCommand}.
+ */
+public class ConvertCommandFactory implements CommandFactory<ConvertCommand> {
+    public static final String COMMAND_WORD = "convert";
+
+    private final Lazy<Storage> storageLazy;
+
+    /**
+     * Creates a new convert command factory with the storage registered.
+     */
+    public ConvertCommandFactory() {
+        this(GetUtil.getLazy(Storage.class));
+    }
+
+    /**
+     * Creates a new convert command factory with the given storage.
+     *
+     * @param storageLazy the storage that the data files are converted with.
+     */
+    public ConvertCommandFactory(Lazy<Storage> storageLazy) {
+        this.storageLazy = storageLazy;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Optional<Set<String>> getPrefixes() {
+        return Optional.empty();
+    }
+
+    @Override
+    public ConvertCommand createCommand(CommandParam param) throws ParseException {
+        final String modeStr = param.getUnnamedValueOrThrow();
+        final StorageMode mode;
+
+        try {
+            mode = StorageMode.valueOf(modeStr.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(
+                    "%s is an invalid storage mode.\n"
+                            + "Please try json, journal, or binary.",
+                    modeStr));
+        }
+        return new ConvertCommand(mode, storageLazy);
+    }
+}
@@ -8,7 +8,8 @@ import wingman.model.Model;
 import wingman.model.item.Item;
 
 /**
- * The command that deletes an item.
+ * The command that deletes an item. The model also unlinks the item from
+ * the flights and locations that link to it.
  */
 public class DeleteCommand<T extends Item> implements Command {
     /**
@@ -0,0 +1,22 @@
+package wingman.logic.toplevel.find;
+
+import java.util.function.Predicate;
+
+import wingman.model.Model;
+import wingman.model.item.Item;
+
+/**
+ * The function that filters the displayed list of items.
+ *
+ * @param <T> the type of the items to be filtered.
+ */
+@FunctionalInterface
+public interface FilterFunction<T extends Item> {
+    /**
+     * Shows only the items that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the items to show.
+     */
+    void filter(Model model, Predicate<T> predicate);
+}
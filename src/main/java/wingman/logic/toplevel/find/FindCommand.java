@@ -0,0 +1,88 @@
+package wingman.logic.toplevel.find;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import wingman.logic.core.Command;
+import wingman.logic.core.CommandResult;
+import wingman.model.Model;
+import wingman.model.item.Item;
+
+/**
+ * The command that finds the items whose name or code contains the words
+ * of a query, and shows only those items in the list. The items are found
+ * through the search index of the model, so this does not check every item.
+ * A find without a query shows all the items again.
+ */
+public class FindCommand<T extends Item> implements Command {
+    /**
+     * The number of the best matches that are listed in the result.
+     */
+    public static final int MAX_LISTED_MATCHES = 10;
+
+    private static final String FOUND_MESSAGE = "Found %d matches for \"%s\":";
+    private static final String NOT_FOUND_MESSAGE = "Found no matches for \"%s\".";
+    private static final String MORE_MESSAGE = "...and %d more.";
+    private static final String SHOW_ALL_MESSAGE = "Showing all items.";
+
+    /**
+     * The words to search for.
+     */
+    private final String query;
+
+    /**
+     * The function that finds the items.
+     */
+    private final FindFunction<T> findFunction;
+
+    /**
+     * The function that filters the displayed items.
+     */
+    private final FilterFunction<T> filterFunction;
+
+    /**
+     * The command that finds items.
+     *
+     * @param query          the words to search for, or an empty string to
+     *                       show all the items.
+     * @param findFunction   the function that finds the items.
+     * @param filterFunction the function that filters the displayed items.
+     */
+    public FindCommand(
+            String query,
+            FindFunction<T> findFunction,
+            FilterFunction<T> filterFunction
+    ) {
+        this.query = query;
+        this.findFunction = findFunction;
+        this.filterFunction = filterFunction;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        if (query.isEmpty()) {
+            filterFunction.filter(model, item -> true);
+            return new CommandResult(SHOW_ALL_MESSAGE);
+        }
+        final List<T> matches = findFunction.find(model, query);
+        // the matches are looked up by identity, as different items may be
+        // equal to each other.
+        final Set<T> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        shown.addAll(matches);
+        filterFunction.filter(model, shown::contains);
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(NOT_FOUND_MESSAGE, query));
+        }
+        final StringBuilder result = new StringBuilder(String.format(FOUND_MESSAGE, matches.size(), query));
+        final int listed = Math.min(matches.size(), MAX_LISTED_MATCHES);
+        for (int i = 0; i < listed; i++) {
+            result.append(String.format("\n%d. %s", i + 1, matches.get(i)));
+        }
+        if (matches.size() > listed) {
+            result.append("\n").append(String.format(MORE_MESSAGE, matches.size() - listed));
+        }
+        return new CommandResult(result.toString());
+    }
+}
@@ -0,0 +1,60 @@
+package wingman.logic.toplevel.find;
+
+import java.util.Optional;
+import java.util.Set;
+
+import wingman.logic.core.CommandFactory;
+import wingman.logic.core.CommandParam;
+import wingman.model.item.Item;
+
+/**
+ * The command factory that produces commands that find items.
+ *
+ * @param <T> the item.
+ */
+public class FindCommandFactory<T extends Item> implements CommandFactory<FindCommand<T>> {
+    /**
+     * The command word for finding.
+     */
+    private static final String COMMAND_WORD = "find";
+
+    /**
+     * The function that finds the items.
+     */
+    private final FindFunction<T> findFunction;
+
+    /**
+     * The function that filters the displayed items.
+     */
+    private final FilterFunction<T> filterFunction;
+
+    /**
+     * The command factory that finds things.
+     *
+     * @param findFunction   the function that finds the items.
+     * @param filterFunction the function that filters the displayed items.
+     */
+    public FindCommandFactory(
+            FindFunction<T> findFunction,
+            FilterFunction<T> filterFunction
+    ) {
+        this.findFunction = findFunction;
+        this.filterFunction = filterFunction;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Optional<Set<String>> getPrefixes() {
+        return Optional.empty();
+    }
+
+    @Override
+    public FindCommand<T> createCommand(CommandParam param) {
+        final String query = param.getUnnamedValue().orElse("").trim();
+        return new FindCommand<>(query, findFunction, filterFunction);
+    }
+}
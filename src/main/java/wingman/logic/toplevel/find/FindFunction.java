@@ -0,0 +1,24 @@
+package wingman.logic.toplevel.find;
+
+import java.util.List;
+
+import wingman.model.Model;
+import wingman.model.item.Item;
+
+/**
+ * The function that finds the items that match a query.
+ *
+ * @param <T> the type of the items to be found.
+ */
+@FunctionalInterface
+public interface FindFunction<T extends Item> {
+    /**
+     * Finds the items that match the given query, with the best matches
+     * first.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching items, best first.
+     */
+    List<T> find(Model model, String query);
+}
@@ -0,0 +1,75 @@
+package wingman.logic.toplevel.run;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import wingman.logic.core.Command;
+import wingman.logic.core.CommandBatch;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.WingmanParser;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.model.Model;
+
+/**
+ * The command that runs the commands in a script file, one per line, as a
+ * {@link CommandBatch}: either all of them take effect, or none of them do,
+ * and the data is saved once after all of them have run.
+ */
+public class RunCommand implements Command {
+    private static final String READ_FAILED_MESSAGE = "Could not read the script %s: %s";
+    private static final String RECURSIVE_MESSAGE = "The script %s is already running.";
+    private static final String SUCCESS_MESSAGE = "%s from %s";
+
+    /**
+     * The scripts that are running, so that a script cannot run itself.
+     * Commands are only executed on the application thread.
+     */
+    private static final Set<Path> RUNNING_SCRIPTS = new HashSet<>();
+
+    /**
+     * The script to run.
+     */
+    private final Path scriptPath;
+
+    /**
+     * Creates the parser of the commands in the script.
+     */
+    private final Supplier<WingmanParser> parserSupplier;
+
+    /**
+     * Creates a command that runs the given script.
+     *
+     * @param scriptPath     the script to run.
+     * @param parserSupplier creates the parser of the commands in the script.
+     */
+    public RunCommand(Path scriptPath, Supplier<WingmanParser> parserSupplier) {
+        this.scriptPath = scriptPath;
+        this.parserSupplier = parserSupplier;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        final Path script = scriptPath.toAbsolutePath().normalize();
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(script, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(READ_FAILED_MESSAGE, scriptPath, e.getMessage()), e);
+        }
+        if (!RUNNING_SCRIPTS.add(script)) {
+            throw new CommandException(String.format(RECURSIVE_MESSAGE, scriptPath));
+        }
+        try {
+            final CommandResult result = new CommandBatch(parserSupplier.get()).execute(model, lines);
+            return new CommandResult(String.format(SUCCESS_MESSAGE, result.getFeedbackToUser(), scriptPath));
+        } finally {
+            RUNNING_SCRIPTS.remove(script);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package wingman.logic.toplevel.run;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import wingman.logic.core.CommandFactory;
+import wingman.logic.core.CommandParam;
+import wingman.logic.core.WingmanParser;
+import wingman.logic.core.exceptions.ParseException;
+
+/**
+ * The factory that's responsible for creating a {@code RunCommand}.
+ */
+public class RunCommandFactory implements CommandFactory<RunCommand> {
+    public static final String COMMAND_WORD = "run";
+
+    private final Supplier<WingmanParser> parserSupplier;
+
+    /**
+     * Creates a new run command factory, whose scripts are parsed with the
+     * default {@code WingmanParser}.
+     */
+    public RunCommandFactory() {
+        this(WingmanParser::new);
+    }
+
+    /**
+     * Creates a new run command factory with the given parser.
+     *
+     * @param parserSupplier creates the parser of the commands in a script.
+     */
+    public RunCommandFactory(Supplier<WingmanParser> parserSupplier) {
+        this.parserSupplier = parserSupplier;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Optional<Set<String>> getPrefixes() {
+        return Optional.empty();
+    }
+
+    @Override
+    public RunCommand createCommand(CommandParam param) throws ParseException {
+        final String pathStr = param.getUnnamedValueOrThrow(
+                "Missing script.\n"
+                        + "Please try entering the path to a file of commands.");
+        final Path scriptPath;
+
+        try {
+            scriptPath = Paths.get(pathStr);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(
+                    "%s is an invalid path.\n"
+                            + "Please try entering the path to a file of commands.",
+                    pathStr));
+        }
+        return new RunCommand(scriptPath, parserSupplier);
+    }
+}
@@ -1,6 +1,8 @@
 package wingman.logic.toplevel.syntax;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import wingman.logic.core.CommandParam;
@@ -85,6 +87,27 @@ public abstract class CrewSyntax extends ModelSyntax {
         return model.getCrewManager();
     }
 
+    /**
+     * Finds the crew that match the given query.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching crew, best first.
+     */
+    public static List<Crew> find(Model model, String query) {
+        return model.findCrew(query);
+    }
+
+    /**
+     * Shows only the crew that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the crew to show.
+     */
+    public static void filter(Model model, Predicate<Crew> predicate) {
+        model.updateFilteredCrewList(predicate);
+    }
+
     /**
      * Deletes the crew from the model.
      *
@@ -1,6 +1,8 @@
 package wingman.logic.toplevel.syntax;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import wingman.logic.core.CommandParam;
 import wingman.logic.core.exceptions.ParseException;
@@ -57,7 +59,29 @@ public abstract class FlightSyntax extends ModelSyntax {
     }
 
     /**
-     * Deletes the flight from the model.
+     * Finds the flights that match the given query.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching flights, best first.
+     */
+    public static List<Flight> find(Model model, String query) {
+        return model.findFlights(query);
+    }
+
+    /**
+     * Shows only the flights that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the flights to show.
+     */
+    public static void filter(Model model, Predicate<Flight> predicate) {
+        model.updateFilteredFlightList(predicate);
+    }
+
+    /**
+     * Deletes the flight from the model, which also makes its pilots, crew
+     * and plane available again, unless another flight still links to them.
      *
      * @param model  the model from which the flight is deleted.
      * @param flight the flight to be deleted.
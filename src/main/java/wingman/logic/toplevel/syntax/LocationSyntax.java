@@ -1,6 +1,8 @@
 package wingman.logic.toplevel.syntax;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import wingman.logic.core.CommandParam;
 import wingman.logic.core.exceptions.ParseException;
@@ -57,6 +59,27 @@ public abstract class LocationSyntax extends ModelSyntax {
         return model.getLocationManager();
     }
 
+    /**
+     * Finds the locations that match the given query.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching locations, best first.
+     */
+    public static List<Location> find(Model model, String query) {
+        return model.findLocations(query);
+    }
+
+    /**
+     * Shows only the locations that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the locations to show.
+     */
+    public static void filter(Model model, Predicate<Location> predicate) {
+        model.updateFilteredLocationList(predicate);
+    }
+
     /**
      * Deletes the location from the model.
      *
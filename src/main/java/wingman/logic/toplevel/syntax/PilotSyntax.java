@@ -1,6 +1,8 @@
 package wingman.logic.toplevel.syntax;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import wingman.logic.core.CommandParam;
@@ -155,6 +157,27 @@ public abstract class PilotSyntax extends ModelSyntax {
         return model.getPilotManager();
     }
 
+    /**
+     * Finds the pilots that match the given query.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching pilots, best first.
+     */
+    public static List<Pilot> find(Model model, String query) {
+        return model.findPilots(query);
+    }
+
+    /**
+     * Shows only the pilots that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the pilots to show.
+     */
+    public static void filter(Model model, Predicate<Pilot> predicate) {
+        model.updateFilteredPilotList(predicate);
+    }
+
     /**
      * Deletes the pilot from the model.
      *
@@ -1,6 +1,8 @@
 package wingman.logic.toplevel.syntax;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import wingman.logic.core.CommandParam;
 import wingman.logic.core.exceptions.ParseException;
@@ -68,6 +70,27 @@ public abstract class PlaneSyntax extends ModelSyntax {
         return model.getPlaneManager();
     }
 
+    /**
+     * Finds the planes that match the given query.
+     *
+     * @param model the model.
+     * @param query the words to search for.
+     * @return the matching planes, best first.
+     */
+    public static List<Plane> find(Model model, String query) {
+        return model.findPlanes(query);
+    }
+
+    /**
+     * Shows only the planes that pass the given predicate.
+     *
+     * @param model     the model.
+     * @param predicate the predicate of the planes to show.
+     */
+    public static void filter(Model model, Predicate<Plane> predicate) {
+        model.updateFilteredPlaneList(predicate);
+    }
+
     /**
      * Deletes the plane from the model.
      *
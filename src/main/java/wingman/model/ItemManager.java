@@ -3,12 +3,22 @@ package wingman.model;
 import static java.util.Objects.requireNonNull;
 import static wingman.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import wingman.model.exception.IndexOutOfBoundException;
+import wingman.model.item.Attribute;
+import wingman.model.item.AttributeIndex;
+import wingman.model.item.HashIndex;
 import wingman.model.item.Item;
+import wingman.model.item.ItemIndex;
+import wingman.model.item.SortedIndex;
 import wingman.model.item.UniqueList;
 import wingman.model.item.exceptions.DuplicateItemException;
 
@@ -24,6 +34,25 @@ public class ItemManager<T extends Item> implements
      */
     private final UniqueList<T> items;
 
+    /**
+     * The number of modifications made to this manager so far. This allows
+     * the callers to tell if the manager has changed since they last looked
+     * at it, e.g. since it was last saved.
+     */
+    private long version;
+
+    /**
+     * The indexes over the slots of the items, which are told about every
+     * item that is added, modified or removed.
+     */
+    private final List<ItemIndex<T>> indexes = new ArrayList<>();
+
+    /**
+     * The indexes of the items by each indexed attribute, which queries
+     * look up.
+     */
+    private final Map<Attribute<T, ?>, AttributeIndex<T, ?>> attributeIndexes = new HashMap<>();
+
     {
         items = new UniqueList<>();
     }
@@ -54,6 +83,147 @@ public class ItemManager<T extends Item> implements
      */
     public void setItems(List<T> items) {
         this.items.setItems(items);
+        version++;
+        reindexAll();
+    }
+
+    /**
+     * Adds an index over the items of this manager, which is kept up to date
+     * with every change made through this manager from now on.
+     *
+     * @param index the index to add.
+     */
+    public void addIndex(ItemIndex<T> index) {
+        requireNonNull(index);
+        indexes.add(index);
+        indexAll(index);
+    }
+
+    /**
+     * Indexes the items by the given attribute, which has few distinct
+     * values, so that queries for the items with a value do not test every
+     * item. Does nothing if the items are already indexed by it.
+     *
+     * @param attribute the attribute to index the items by.
+     * @param <K>       the type of the values of the attribute.
+     */
+    public <K> void addHashIndex(Attribute<T, K> attribute) {
+        addAttributeIndex(new HashIndex<>(attribute));
+    }
+
+    /**
+     * Indexes the items in the order of the given attribute, so that queries
+     * for the items with a value in a range do not test every item. Does
+     * nothing if the items are already indexed by it.
+     *
+     * @param attribute the attribute to index the items by.
+     * @param <K>       the type of the values of the attribute.
+     */
+    public <K extends Comparable<? super K>> void addSortedIndex(Attribute<T, K> attribute) {
+        addAttributeIndex(new SortedIndex<>(attribute));
+    }
+
+    private void addAttributeIndex(AttributeIndex<T, ?> index) {
+        if (attributeIndexes.putIfAbsent(index.getAttribute(), index) == null) {
+            addIndex(index);
+        }
+    }
+
+    /**
+     * Returns the index of the items by the given attribute, if there is
+     * one.
+     *
+     * @param attribute the attribute that the items are indexed by.
+     * @param <K>       the type of the values of the attribute.
+     * @return the index by the attribute.
+     */
+    @SuppressWarnings("unchecked")
+    <K> Optional<AttributeIndex<T, K>> getIndex(Attribute<T, K> attribute) {
+        // each index is put under the attribute that it indexes by.
+        return Optional.ofNullable((AttributeIndex<T, K>) attributeIndexes.get(attribute));
+    }
+
+    /**
+     * Starts a query for the items of this manager, which matches all of
+     * them until conditions are added to it.
+     *
+     * @return the query.
+     */
+    public ItemQuery<T> query() {
+        return new ItemQuery<>(this);
+    }
+
+    /**
+     * Returns the slot of the item with the given id, or {@code -1} if there
+     * is no such item. The slots are in the order of the item list, and an
+     * item keeps its slot while other items are added and removed, so the
+     * indexes are keyed by them.
+     *
+     * @param id the id of the item.
+     * @return the slot of the item.
+     */
+    public int slotOf(String id) {
+        return items.slotOf(id);
+    }
+
+    /**
+     * Returns the item in the given slot, or null if the slot is free.
+     */
+    T getItemInSlot(int slot) {
+        return items.getInSlot(slot);
+    }
+
+    /**
+     * Returns the slots of all the items.
+     */
+    BitSet getOccupiedSlots() {
+        return items.getOccupiedSlots();
+    }
+
+    private void indexAll(ItemIndex<T> index) {
+        final BitSet slots = items.getOccupiedSlots();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            index.index(items.getInSlot(slot), slot);
+        }
+    }
+
+    /**
+     * Indexes all the items again, as they have been moved to other slots.
+     */
+    private void reindexAll() {
+        for (ItemIndex<T> index : indexes) {
+            index.clear();
+            indexAll(index);
+        }
+    }
+
+    /**
+     * Tells the indexes that the given item, which is in the list, has been
+     * added, replaced or modified.
+     */
+    private void reindex(T item) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        final int slot = items.slotOf(item.getId());
+        for (ItemIndex<T> index : indexes) {
+            index.index(item, slot);
+        }
+    }
+
+    /**
+     * Tells the indexes that the items in the given slots have been removed,
+     * or indexes all the items again if the removal moved them to other
+     * slots, i.e. if the slot generation has changed.
+     */
+    private void unindex(List<Integer> slots, int slotGeneration) {
+        if (items.getSlotGeneration() != slotGeneration) {
+            reindexAll();
+            return;
+        }
+        for (ItemIndex<T> index : indexes) {
+            slots.forEach(index::unindex);
+        }
     }
 
     /**
@@ -98,6 +268,51 @@ public class ItemManager<T extends Item> implements
      */
     public void addItem(T item) throws DuplicateItemException {
         items.add(item);
+        version++;
+        reindex(item);
+    }
+
+    /**
+     * Adds all the given items to the list, notifying the observers of the
+     * list only once.
+     *
+     * @param toAdd the items to add
+     * @throws DuplicateItemException if any of the items is already in the
+     *                                list, or if they contain duplicates.
+     */
+    public void addItems(Collection<? extends T> toAdd) throws DuplicateItemException {
+        items.addAll(toAdd);
+        version++;
+        toAdd.forEach(this::reindex);
+    }
+
+    /**
+     * Removes the items with the given ids from the list, notifying the
+     * observers of the list only once.
+     *
+     * @param ids the ids of the items to remove
+     */
+    public void removeItems(Collection<String> ids) {
+        final List<Integer> slots = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            slots.add(items.slotOf(id));
+        }
+        final int slotGeneration = items.getSlotGeneration();
+        items.removeAll(ids);
+        version++;
+        unindex(slots, slotGeneration);
+    }
+
+    /**
+     * Replaces each item in the list with the given item that has the same
+     * id, notifying the observers of the list only once.
+     *
+     * @param editedItems the items to replace with
+     */
+    public void replaceItems(Collection<? extends T> editedItems) {
+        items.replaceAll(editedItems);
+        version++;
+        editedItems.forEach(this::reindex);
     }
 
     /**
@@ -109,6 +324,44 @@ public class ItemManager<T extends Item> implements
     public void setItem(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
         items.setItem(target, editedItem);
+        version++;
+        reindex(editedItem);
+    }
+
+    /**
+     * Marks the given item as modified. This should be called whenever an
+     * item in this manager is mutated in place, e.g. when its links or its
+     * availability changes, so that the change is not missed when saving.
+     * The observers of the item list are notified of the change as well.
+     * An item that is not in this manager is ignored, as there is nothing
+     * of it to save or display.
+     *
+     * @param item the item that has been modified.
+     */
+    public void updateItem(T item) {
+        requireNonNull(item);
+        if (!items.contains(item.getId())) {
+            return;
+        }
+        items.update(item);
+        version++;
+        reindex(item);
+    }
+
+    /**
+     * Notifies the observers of the item list that the given item should be
+     * displayed again, e.g. because an item that it links to has changed.
+     * Unlike {@link #updateItem}, the manager is not marked as modified.
+     * An item that is not in this manager is ignored.
+     *
+     * @param item the item to be displayed again.
+     */
+    public void refreshItem(T item) {
+        requireNonNull(item);
+        if (!items.contains(item.getId())) {
+            return;
+        }
+        items.update(item);
     }
 
     /**
@@ -117,11 +370,20 @@ public class ItemManager<T extends Item> implements
      * @param item the item to remove
      */
     public void removeItem(T item) {
-        items.remove(item);
+        removeItem(item.getId());
     }
 
+    /**
+     * Removes the item with the given id from this {@code ItemManager}.
+     *
+     * @param id the id of the item to remove
+     */
     public void removeItem(String id) {
+        final int slot = items.slotOf(id);
+        final int slotGeneration = items.getSlotGeneration();
         items.remove(id);
+        version++;
+        unindex(List.of(slot), slotGeneration);
     }
 
     /**
@@ -136,14 +398,20 @@ public class ItemManager<T extends Item> implements
         removeItem(itemToRemove.getId());
     }
 
+    /**
+     * Returns the position of the item with the given id in the list, or
+     * {@code -1} if there is no such item.
+     *
+     * @param id the id of the item.
+     * @return the position of the item with the given id.
+     */
+    public int indexOf(String id) {
+        return items.indexOf(id);
+    }
+
     @Override
     public Optional<T> getItemOptional(String id) {
-        for (T item : items) {
-            if (item.getId().equals(id)) {
-                return Optional.of(item);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(items.get(id));
     }
 
     @Override
@@ -170,6 +438,11 @@ public class ItemManager<T extends Item> implements
         return this.items.size();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<T> getItemList() {
         return this.items.asUnmodifiableObservableList();
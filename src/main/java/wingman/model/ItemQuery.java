@@ -0,0 +1,193 @@
+package wingman.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import wingman.model.item.Attribute;
+import wingman.model.item.AttributeIndex;
+import wingman.model.item.Item;
+import wingman.model.item.SortedIndex;
+
+/**
+ * A query for the items of an {@link ItemManager} whose attributes match
+ * all the given conditions, e.g. the captains with more than 5000 flight
+ * hours.
+ * <p>
+ * The query keeps the slots of the items that match the conditions so far
+ * as a bitset, keyed like the indexes of the manager. Each condition on an
+ * indexed attribute intersects it with the slots found by the index; only
+ * the conditions on attributes that are not indexed test the items that
+ * still match, one by one. As the slots are in the order of the item list,
+ * so are the items found.
+ * <p>
+ * The slots are those of the items when the query was created, and the
+ * manager may move the items to other slots when items are removed, so
+ * the query should be finished before the manager is modified.
+ *
+ * @param <T> the type of the items.
+ */
+public class ItemQuery<T extends Item> {
+    private final ItemManager<T> manager;
+
+    /**
+     * The slots of the items that match all the conditions so far.
+     */
+    private final BitSet matches = new BitSet();
+
+    /**
+     * Creates a query that matches all the items of the given manager.
+     *
+     * @param manager the manager whose items are queried.
+     */
+    ItemQuery(ItemManager<T> manager) {
+        this.manager = manager;
+        matches.or(manager.getOccupiedSlots());
+    }
+
+    /**
+     * Keeps the items whose attribute is equal to the given value.
+     *
+     * @param attribute the attribute of the items.
+     * @param value     the value of the attribute.
+     * @param <K>       the type of the values of the attribute.
+     * @return this query.
+     */
+    public <K> ItemQuery<T> whereEquals(Attribute<T, K> attribute, K value) {
+        requireNonNull(attribute);
+        final Optional<AttributeIndex<T, K>> index = manager.getIndex(attribute);
+        if (index.isPresent()) {
+            matches.and(index.get().slotsOf(value));
+        } else {
+            retainTested(attribute, found -> Objects.equals(found, value));
+        }
+        return this;
+    }
+
+    /**
+     * Keeps the items whose attribute is between the given values, both
+     * inclusive.
+     *
+     * @param attribute the attribute of the items.
+     * @param from      the smallest value of the attribute.
+     * @param to        the largest value of the attribute.
+     * @param <K>       the type of the values of the attribute.
+     * @return this query.
+     */
+    public <K extends Comparable<? super K>> ItemQuery<T> whereBetween(Attribute<T, K> attribute, K from, K to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return whereIn(attribute, from, true, to, true);
+    }
+
+    /**
+     * Keeps the items whose attribute is greater than the given value.
+     *
+     * @param attribute the attribute of the items.
+     * @param value     the value that the attribute must be greater than.
+     * @param <K>       the type of the values of the attribute.
+     * @return this query.
+     */
+    public <K extends Comparable<? super K>> ItemQuery<T> whereGreaterThan(Attribute<T, K> attribute, K value) {
+        requireNonNull(value);
+        return whereIn(attribute, value, false, null, false);
+    }
+
+    /**
+     * Keeps the items whose attribute is less than the given value.
+     *
+     * @param attribute the attribute of the items.
+     * @param value     the value that the attribute must be less than.
+     * @param <K>       the type of the values of the attribute.
+     * @return this query.
+     */
+    public <K extends Comparable<? super K>> ItemQuery<T> whereLessThan(Attribute<T, K> attribute, K value) {
+        requireNonNull(value);
+        return whereIn(attribute, null, false, value, false);
+    }
+
+    private <K extends Comparable<? super K>> ItemQuery<T> whereIn(
+            Attribute<T, K> attribute,
+            K from,
+            boolean fromInclusive,
+            K to,
+            boolean toInclusive
+    ) {
+        requireNonNull(attribute);
+        final Optional<AttributeIndex<T, K>> index = manager.getIndex(attribute);
+        if (index.isPresent() && index.get() instanceof SortedIndex) {
+            final SortedIndex<T, K> sortedIndex = (SortedIndex<T, K>) index.get();
+            matches.and(sortedIndex.slotsIn(from, fromInclusive, to, toInclusive));
+            return this;
+        }
+        retainTested(attribute, value -> {
+            if (from != null) {
+                final int comparison = value.compareTo(from);
+                if (comparison < 0 || (comparison == 0 && !fromInclusive)) {
+                    return false;
+                }
+            }
+            if (to != null) {
+                final int comparison = value.compareTo(to);
+                return comparison < 0 || (comparison == 0 && toInclusive);
+            }
+            return true;
+        });
+        return this;
+    }
+
+    /**
+     * Keeps the items that still match whose attribute passes the test.
+     */
+    private <K> void retainTested(Attribute<T, K> attribute, Predicate<K> test) {
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (!test.test(attribute.get(manager.getItemInSlot(i)))) {
+                matches.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items that match the query.
+     *
+     * @return the number of matching items.
+     */
+    public int count() {
+        return matches.cardinality();
+    }
+
+    /**
+     * Returns the items that match the query, in the order of the item list.
+     *
+     * @return the matching items.
+     */
+    public List<T> getItems() {
+        final List<T> items = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            items.add(manager.getItemInSlot(i));
+        }
+        return items;
+    }
+
+    /**
+     * Returns a predicate that is true for the items that match the query,
+     * e.g. to filter the displayed list by. Unlike the query, the predicate
+     * does not depend on the slots of the items, so it stays valid after the
+     * manager is modified.
+     *
+     * @return the predicate of the matching items.
+     */
+    public Predicate<T> asPredicate() {
+        final Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        items.addAll(getItems());
+        return items::contains;
+    }
+}
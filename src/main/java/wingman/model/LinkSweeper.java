@@ -0,0 +1,235 @@
+package wingman.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.link.Link;
+import wingman.model.location.Location;
+
+/**
+ * Removes the ids of deleted items from the links of the flights and
+ * locations of a model, which would otherwise be resolved every time the
+ * links are displayed, and saved with them.
+ * <p>
+ * The links are swept incrementally: each slice sweeps the items after
+ * the ones swept by the slice before it, until its time budget runs out, so
+ * that no slice holds up the thread it runs on for long. A pass ends when
+ * all the flights and locations have been swept, and logs the number of
+ * ids it removed. Items that are added or removed during a pass may be
+ * skipped until the next one.
+ * <p>
+ * The slices are scheduled by a background thread, but as the model is
+ * not thread-safe, they are run by the given executor of the thread that
+ * owns the model, e.g. the JavaFX application thread.
+ */
+public class LinkSweeper {
+    public static final long DEFAULT_SLICE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    public static final long DEFAULT_SLICE_INTERVAL_MILLIS = 50;
+    public static final long DEFAULT_PASS_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final String PASS_MESSAGE =
+            "Swept the links of %d items in %d slices, removing %d ids of deleted items";
+
+    private final Logger logger = LogsCenter.getLogger(LinkSweeper.class);
+
+    /**
+     * The items whose links are swept, in the order they are swept.
+     */
+    private final List<Source<?>> sources;
+
+    /**
+     * Runs the slices on the thread that owns the model.
+     */
+    private final Executor modelExecutor;
+
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "link-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The source being swept, and the index of the next item in it.
+     */
+    private int sourceIndex;
+    private int itemIndex;
+
+    private long sliceBudgetNanos;
+    private long sliceIntervalMillis;
+    private long passIntervalMillis;
+
+    private int passItemCount;
+    private int passSliceCount;
+    private int passRemovedCount;
+    private long removedCount;
+
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a sweeper of the links of the given model.
+     *
+     * @param model         the model whose links are swept.
+     * @param modelExecutor the executor of the thread that owns the model.
+     */
+    public LinkSweeper(Model model, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        this.sources = List.of(
+                new Source<>(model::getFlightManager, Flight::getLinks),
+                new Source<>(model::getLocationManager, Location::getLinks)
+        );
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts sweeping with the default budget and intervals.
+     */
+    public void start() {
+        start(DEFAULT_SLICE_BUDGET_NANOS, DEFAULT_SLICE_INTERVAL_MILLIS, DEFAULT_PASS_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Starts sweeping, one slice after another, with a pause between the
+     * slices and a longer one between the passes.
+     *
+     * @param sliceBudgetNanos    the time that each slice may take.
+     * @param sliceIntervalMillis the pause between the slices of a pass.
+     * @param passIntervalMillis  the pause between the passes.
+     */
+    public void start(long sliceBudgetNanos, long sliceIntervalMillis, long passIntervalMillis) {
+        this.sliceBudgetNanos = sliceBudgetNanos;
+        this.sliceIntervalMillis = sliceIntervalMillis;
+        this.passIntervalMillis = passIntervalMillis;
+        scheduleSlice(0);
+    }
+
+    /**
+     * Schedules the next slice to be run on the thread that owns the model
+     * after the given delay, unless the sweeper has been closed.
+     */
+    private void scheduleSlice(long delayMillis) {
+        if (isClosed) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> modelExecutor.execute(this::runSlice), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the sweeper has been closed in the meantime.
+        }
+    }
+
+    private void runSlice() {
+        if (isClosed) {
+            return;
+        }
+        final boolean isPassDone = sweepSlice(sliceBudgetNanos);
+        scheduleSlice(isPassDone ? passIntervalMillis : sliceIntervalMillis);
+    }
+
+    /**
+     * Sweeps the links of the next items, until the time budget runs out or
+     * the pass ends. This must be called on the thread that owns the model.
+     *
+     * @param budgetNanos the time that the slice may take.
+     * @return true if the slice has ended the pass.
+     */
+    public boolean sweepSlice(long budgetNanos) {
+        final long start = System.nanoTime();
+        passSliceCount++;
+        do {
+            if (!sweepNext()) {
+                endPass();
+                return true;
+            }
+        } while (System.nanoTime() - start < budgetNanos);
+        return false;
+    }
+
+    /**
+     * Sweeps the links of the next item.
+     *
+     * @return false if there are no more items to sweep in this pass.
+     */
+    private boolean sweepNext() {
+        while (sourceIndex < sources.size()) {
+            final Source<?> source = sources.get(sourceIndex);
+            if (itemIndex < source.size()) {
+                final int removed = source.sweep(itemIndex++);
+                passItemCount++;
+                passRemovedCount += removed;
+                removedCount += removed;
+                return true;
+            }
+            sourceIndex++;
+            itemIndex = 0;
+        }
+        return false;
+    }
+
+    private void endPass() {
+        logger.info(String.format(PASS_MESSAGE, passItemCount, passSliceCount, passRemovedCount));
+        sourceIndex = 0;
+        itemIndex = 0;
+        passItemCount = 0;
+        passSliceCount = 0;
+        passRemovedCount = 0;
+    }
+
+    /**
+     * Returns the number of ids removed since the sweeper was created.
+     */
+    public long getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Stops sweeping. A slice that is running is not interrupted.
+     */
+    public void close() {
+        isClosed = true;
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The items of a manager whose links are swept.
+     *
+     * @param <T> the type of the items.
+     */
+    private static class Source<T extends Item> {
+        private final Supplier<ReadOnlyItemManager<T>> manager;
+        private final Function<T, List<Link<?, ?, ?>>> linksOf;
+
+        private Source(
+                Supplier<ReadOnlyItemManager<T>> manager,
+                Function<T, List<Link<?, ?, ?>>> linksOf
+        ) {
+            this.manager = manager;
+            this.linksOf = linksOf;
+        }
+
+        private int size() {
+            return manager.get().size();
+        }
+
+        private int sweep(int index) {
+            int removed = 0;
+            for (Link<?, ?, ?> link : linksOf.apply(manager.get().getItem(index))) {
+                removed += link.removeInvalid();
+            }
+            return removed;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package wingman.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import wingman.commons.core.GuiSettings;
 import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
 import wingman.model.flight.Flight;
 import wingman.model.item.Item;
 import wingman.model.location.Location;
 import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
 import wingman.model.plane.Plane;
 
 /**
@@ -138,6 +142,29 @@ public interface Model {
      */
     void addPilot(Pilot pilot);
 
+    /**
+     * Adds all the given pilots at once.
+     *
+     * @param pilots the pilots to add.
+     */
+    void addPilots(Collection<Pilot> pilots);
+
+    /**
+     * Deletes the pilots with the given ids at once.
+     * They are also unlinked from the flights and locations that link to
+     * them.
+     *
+     * @param ids the ids of the pilots to delete.
+     */
+    void deletePilots(Collection<String> ids);
+
+    /**
+     * Replaces each pilot with the given pilot that has the same id, at once.
+     *
+     * @param pilots the edited pilots.
+     */
+    void replacePilots(Collection<Pilot> pilots);
+
     /**
      * Replaces the given pilot {@code target} with {@code editedPilot}.
      * {@code target} must exist in the address book.
@@ -148,6 +175,14 @@ public interface Model {
      */
     void setPilot(Pilot target, Pilot editedPilot);
 
+    /**
+     * Marks the given pilot as modified in place, e.g. after its
+     * availability has changed, so that the change will be saved.
+     *
+     * @param pilot the pilot that has been modified.
+     */
+    void updatePilot(Pilot pilot);
+
     /**
      * Checks the availability of the pilot.
      *
@@ -164,11 +199,46 @@ public interface Model {
      */
     boolean checkPilotByIndex(int index);
 
+    /**
+     * Returns the pilots of the given rank that are available, in the order of
+     * the pilot list. This does not check the pilots one by one.
+     *
+     * @param rank the rank of the pilots.
+     * @return the available pilots of the given rank.
+     */
+    List<Pilot> getAvailablePilots(PilotRank rank);
+
+    /**
+     * Returns the number of pilots that are available.
+     *
+     * @return the number of available pilots.
+     */
+    int countAvailablePilots();
+
+    /**
+     * Starts a query for the pilots, e.g. to filter the pilot list by. The
+     * pilots are indexed by rank, gender, age and flight hours, so that
+     * conditions on those do not test the pilots one by one.
+     *
+     * @return the query for the pilots.
+     */
+    ItemQuery<Pilot> queryPilots();
+
     /**
      * Returns an unmodifiable view of the filtered pilot list
      */
     ObservableList<Pilot> getFilteredPilotList();
 
+    /**
+     * Finds the pilots whose name contains all the words of the given
+     * query, ignoring case, with the best matches first. The names are
+     * indexed by their n-grams, so this does not check every pilot.
+     *
+     * @param query the words to search for.
+     * @return the matching pilots, best first.
+     */
+    List<Pilot> findPilots(String query);
+
     /**
      * Updates the filter of the filtered pilot list to filter by the given {@code predicate}.
      *
@@ -232,6 +302,29 @@ public interface Model {
      */
     void addLocation(Location location);
 
+    /**
+     * Adds all the given locations at once.
+     *
+     * @param locations the locations to add.
+     */
+    void addLocations(Collection<Location> locations);
+
+    /**
+     * Deletes the locations with the given ids at once.
+     * They are also unlinked from the flights and locations that link to
+     * them.
+     *
+     * @param ids the ids of the locations to delete.
+     */
+    void deleteLocations(Collection<String> ids);
+
+    /**
+     * Replaces each location with the given location that has the same id, at once.
+     *
+     * @param locations the edited locations.
+     */
+    void replaceLocations(Collection<Location> locations);
+
     void setLocationManagerFilePath(Path pilotManagerFilePath);
 
     ReadOnlyItemManager<Location> getLocationManager();
@@ -242,8 +335,26 @@ public interface Model {
 
     void setLocation(Location target, Location editedLocation);
 
+    /**
+     * Marks the given location as modified in place, e.g. after its links
+     * have changed, so that the change will be saved.
+     *
+     * @param location the location that has been modified.
+     */
+    void updateLocation(Location location);
+
     ObservableList<Location> getFilteredLocationList();
 
+    /**
+     * Finds the locations whose name contains all the words of the given
+     * query, ignoring case, with the best matches first. The names are
+     * indexed by their n-grams, so this does not check every location.
+     *
+     * @param query the words to search for.
+     * @return the matching locations, best first.
+     */
+    List<Location> findLocations(String query);
+
     void updateFilteredLocationList(Predicate<Location> predicate);
 
 
@@ -288,6 +399,29 @@ public interface Model {
      */
     void addCrew(Crew crew);
 
+    /**
+     * Adds all the given crew at once.
+     *
+     * @param crews the crew to add.
+     */
+    void addCrews(Collection<Crew> crews);
+
+    /**
+     * Deletes the crew with the given ids at once.
+     * They are also unlinked from the flights and locations that link to
+     * them.
+     *
+     * @param ids the ids of the crew to delete.
+     */
+    void deleteCrews(Collection<String> ids);
+
+    /**
+     * Replaces each crew with the given crew that has the same id, at once.
+     *
+     * @param crews the edited crew.
+     */
+    void replaceCrews(Collection<Crew> crews);
+
     /**
      * Deletes a crew to the crew list.
      *
@@ -320,6 +454,14 @@ public interface Model {
 
     void setCrew(Crew target, Crew editedCrew);
 
+    /**
+     * Marks the given crew as modified in place, e.g. after its
+     * availability has changed, so that the change will be saved.
+     *
+     * @param crew the crew that has been modified.
+     */
+    void updateCrew(Crew crew);
+
     /**
      * Checks the availability of the crew.
      *
@@ -337,6 +479,41 @@ public interface Model {
      */
     boolean checkCrewByIndex(int index);
 
+    /**
+     * Returns the crew of the given rank that are available, in the order of
+     * the crew list. This does not check the crew one by one.
+     *
+     * @param rank the rank of the crew.
+     * @return the available crew of the given rank.
+     */
+    List<Crew> getAvailableCrew(CrewRank rank);
+
+    /**
+     * Returns the number of crew that are available.
+     *
+     * @return the number of available crew.
+     */
+    int countAvailableCrew();
+
+    /**
+     * Starts a query for the crew, e.g. to filter the crew list by. The
+     * crew are indexed by rank, so that conditions on it do not test the
+     * crew one by one.
+     *
+     * @return the query for the crew.
+     */
+    ItemQuery<Crew> queryCrew();
+
+    /**
+     * Finds the crew whose name contains all the words of the given
+     * query, ignoring case, with the best matches first. The names are
+     * indexed by their n-grams, so this does not check every crew.
+     *
+     * @param query the words to search for.
+     * @return the matching crew, best first.
+     */
+    List<Crew> findCrew(String query);
+
     void updateFilteredCrewList(Predicate<Crew> predicate);
 
     ObservableList<Crew> getFilteredCrewList();
@@ -354,6 +531,29 @@ public interface Model {
 
     void addPlane(Plane plane);
 
+    /**
+     * Adds all the given planes at once.
+     *
+     * @param planes the planes to add.
+     */
+    void addPlanes(Collection<Plane> planes);
+
+    /**
+     * Deletes the planes with the given ids at once.
+     * They are also unlinked from the flights and locations that link to
+     * them.
+     *
+     * @param ids the ids of the planes to delete.
+     */
+    void deletePlanes(Collection<String> ids);
+
+    /**
+     * Replaces each plane with the given plane that has the same id, at once.
+     *
+     * @param planes the edited planes.
+     */
+    void replacePlanes(Collection<Plane> planes);
+
     void deletePlane(Plane plane);
 
     void deletePlane(String id);
@@ -371,6 +571,14 @@ public interface Model {
 
     void setPlane(Plane target, Plane editedPlane);
 
+    /**
+     * Marks the given plane as modified in place, e.g. after its
+     * availability has changed, so that the change will be saved.
+     *
+     * @param plane the plane that has been modified.
+     */
+    void updatePlane(Plane plane);
+
     /**
      * Checks the availability of the plane.
      *
@@ -388,8 +596,43 @@ public interface Model {
      */
     boolean checkPlaneByIndex(int index);
 
+    /**
+     * Returns the planes of the given model that are available, in the order of
+     * the plane list. This does not check the planes one by one.
+     *
+     * @param model the model of the planes.
+     * @return the available planes of the given model.
+     */
+    List<Plane> getAvailablePlanes(String model);
+
+    /**
+     * Returns the number of planes that are available.
+     *
+     * @return the number of available planes.
+     */
+    int countAvailablePlanes();
+
+    /**
+     * Starts a query for the planes, e.g. to filter the plane list by. The
+     * planes are indexed by model and age, so that conditions on those do
+     * not test the planes one by one.
+     *
+     * @return the query for the planes.
+     */
+    ItemQuery<Plane> queryPlanes();
+
     ObservableList<Plane> getFilteredPlaneList();
 
+    /**
+     * Finds the planes whose model contains all the words of the given
+     * query, ignoring case, with the best matches first. The models are
+     * indexed by their n-grams, so this does not check every plane.
+     *
+     * @param query the words to search for.
+     * @return the matching planes, best first.
+     */
+    List<Plane> findPlanes(String query);
+
     void updateFilteredPlaneList(Predicate<Plane> predicate);
 
 
@@ -472,6 +715,29 @@ public interface Model {
      */
     void addFlight(Flight flight);
 
+    /**
+     * Adds all the given flights at once.
+     *
+     * @param flights the flights to add.
+     */
+    void addFlights(Collection<Flight> flights);
+
+    /**
+     * Deletes the flights with the given ids at once.
+     * The pilots, crew and planes that they link become available again,
+     * unless another flight still links to them.
+     *
+     * @param ids the ids of the flights to delete.
+     */
+    void deleteFlights(Collection<String> ids);
+
+    /**
+     * Replaces each flight with the given flight that has the same id, at once.
+     *
+     * @param flights the edited flights.
+     */
+    void replaceFlights(Collection<Flight> flights);
+
     /**
      * Replaces the given flight {@code target} with {@code editedFlight}
      * {@code target} must exist in Wingman
@@ -482,6 +748,14 @@ public interface Model {
      */
     void setFlight(Flight target, Flight editedFlight);
 
+    /**
+     * Marks the given flight as modified in place, e.g. after its links
+     * have changed, so that the change will be saved.
+     *
+     * @param flight the flight that has been modified.
+     */
+    void updateFlight(Flight flight);
+
     /**
      * Returns an unmodifiable view of the filtered flight list
      *
@@ -489,6 +763,16 @@ public interface Model {
      */
     ObservableList<Flight> getFilteredFlightList();
 
+    /**
+     * Finds the flights whose code contains all the words of the given
+     * query, ignoring case, with the best matches first. The codes are
+     * indexed by their n-grams, so this does not check every flight.
+     *
+     * @param query the words to search for.
+     * @return the matching flights, best first.
+     */
+    List<Flight> findFlights(String query);
+
     /**
      * Updates the filter of the filtered flight list to filter by the given {@code predicate}
      *
@@ -497,6 +781,26 @@ public interface Model {
      */
     void updateFilteredFlightList(Predicate<Flight> predicate);
 
+    //=========== Links ========================================================
+
+    /**
+     * Returns the flights whose links contain the item with the given id,
+     * in time proportional to the number of those flights.
+     *
+     * @param id the id of the pilot, crew, plane or location.
+     * @return the flights that are linked to the item.
+     */
+    List<Flight> getFlightsLinkedTo(String id);
+
+    /**
+     * Returns the locations whose links contain the item with the given id,
+     * in time proportional to the number of those locations.
+     *
+     * @param id the id of the pilot, crew or plane.
+     * @return the locations that are linked to the item.
+     */
+    List<Location> getLocationsLinkedTo(String id);
+
     //=========== Generic ========================================================
 
     /**
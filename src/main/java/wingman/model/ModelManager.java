@@ -3,27 +3,44 @@ package wingman.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import wingman.commons.core.GuiSettings;
 import wingman.commons.core.LogsCenter;
 import wingman.commons.util.CollectionUtil;
 import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
 import wingman.model.crew.exceptions.CrewNotFoundException;
 import wingman.model.exception.IndexOutOfBoundException;
 import wingman.model.flight.Flight;
 import wingman.model.flight.exceptions.FlightNotFoundException;
+import wingman.model.item.AvailabilityIndex;
 import wingman.model.item.Item;
+import wingman.model.item.SearchIndex;
 import wingman.model.item.exceptions.DuplicateItemException;
+import wingman.model.item.exceptions.ItemNotFoundException;
+import wingman.model.link.Link;
+import wingman.model.link.ReverseLinkIndex;
+import wingman.model.link.exceptions.LinkException;
 import wingman.model.location.Location;
 import wingman.model.location.exceptions.LocationNotFoundException;
 import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
 import wingman.model.pilot.exceptions.PilotNotFoundException;
 import wingman.model.plane.Plane;
 import wingman.model.plane.exceptions.PlaneNotFoundException;
@@ -64,6 +81,18 @@ public class ModelManager implements Model {
     // general utilities
     private final ObservableList<Item> itemsList;
     private Optional<ObservableList<? extends Item>> lastBoundList = Optional.empty();
+    private final ReverseLinkIndex linkIndex = new ReverseLinkIndex(this::handleLinksChanged);
+    private final AvailabilityIndex<Pilot, PilotRank> pilotAvailability =
+            new AvailabilityIndex<>(Pilot::isAvailable, Pilot.RANK);
+    private final AvailabilityIndex<Crew, CrewRank> crewAvailability =
+            new AvailabilityIndex<>(Crew::isAvailable, Crew.RANK);
+    private final AvailabilityIndex<Plane, String> planeAvailability =
+            new AvailabilityIndex<>(Plane::isAvailable, Plane.MODEL);
+    private final SearchIndex<Pilot> pilotSearch = new SearchIndex<>(Pilot.NAME);
+    private final SearchIndex<Location> locationSearch = new SearchIndex<>(Location.NAME);
+    private final SearchIndex<Crew> crewSearch = new SearchIndex<>(Crew.NAME);
+    private final SearchIndex<Plane> planeSearch = new SearchIndex<>(Plane.MODEL);
+    private final SearchIndex<Flight> flightSearch = new SearchIndex<>(Flight.CODE);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -106,6 +135,28 @@ public class ModelManager implements Model {
         pilotList = new FilteredList<>(filteredPilots);
         locationList = new FilteredList<>(filteredLocations);
 
+        this.pilotManager.addIndex(pilotAvailability);
+        this.crewManager.addIndex(crewAvailability);
+        this.planeManager.addIndex(planeAvailability);
+        this.pilotManager.addHashIndex(Pilot.RANK);
+        this.pilotManager.addHashIndex(Pilot.GENDER);
+        this.pilotManager.addSortedIndex(Pilot.AGE);
+        this.pilotManager.addSortedIndex(Pilot.FLIGHT_HOUR);
+        this.crewManager.addHashIndex(Crew.RANK);
+        this.planeManager.addHashIndex(Plane.MODEL);
+        this.planeManager.addSortedIndex(Plane.AGE);
+        this.pilotManager.addIndex(pilotSearch);
+        this.locationManager.addIndex(locationSearch);
+        this.crewManager.addIndex(crewSearch);
+        this.planeManager.addIndex(planeSearch);
+        this.flightManager.addIndex(flightSearch);
+        trackLinks(this.flightManager, Flight::getLinks);
+        trackLinks(this.locationManager, Location::getLinks);
+        refreshReferrersOf(this.pilotManager);
+        refreshReferrersOf(this.crewManager);
+        refreshReferrersOf(this.planeManager);
+        refreshReferrersOf(this.locationManager);
+
         setOperationMode(userPrefs.getOperationMode());
     }
 
@@ -167,6 +218,66 @@ public class ModelManager implements Model {
         }
     }
 
+    /**
+     * Tracks the links of the items in the given manager in the reverse link
+     * index, for as long as the items stay in the manager.
+     *
+     * @param manager the manager of the items that own links.
+     * @param linksOf the function that gets the links of an item.
+     */
+    private <T extends Item> void trackLinks(
+            ItemManager<T> manager,
+            Function<T, List<Link<?, ?, ?>>> linksOf
+    ) {
+        manager.getItemList().forEach(item -> linkIndex.track(item, linksOf.apply(item)));
+        manager.getItemList().addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                // an item that is replaced by itself, e.g. by updateItem, stays tracked.
+                final Set<T> added = Collections.newSetFromMap(new IdentityHashMap<>());
+                added.addAll(change.getAddedSubList());
+                change.getRemoved()
+                      .stream()
+                      .filter(item -> !added.contains(item))
+                      .forEach(item -> linkIndex.untrack(item, linksOf.apply(item)));
+                added.forEach(item -> linkIndex.track(item, linksOf.apply(item)));
+            }
+        });
+    }
+
+    /**
+     * Marks the flight or location whose links have changed as modified, so
+     * that the change is saved and displayed.
+     *
+     * @param owner the item whose links have changed.
+     */
+    private void handleLinksChanged(Item owner) {
+        if (owner instanceof Flight) {
+            flightManager.updateItem((Flight) owner);
+        } else if (owner instanceof Location) {
+            locationManager.updateItem((Location) owner);
+        }
+    }
+
+    /**
+     * Displays again the flights and locations that link to an item of the
+     * given manager whenever the item is removed or replaced, so that they
+     * do not keep displaying the old item.
+     *
+     * @param manager the manager of the items that are linked to.
+     */
+    private <T extends Item> void refreshReferrersOf(ItemManager<T> manager) {
+        manager.getItemList().addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                for (T item : change.getRemoved()) {
+                    linkIndex.getReferrers(item.getId(), Flight.class)
+                             .forEach(flightManager::refreshItem);
+                    linkIndex.getReferrers(item.getId(), Location.class)
+                             .forEach(locationManager::refreshItem);
+                }
+            }
+        });
+    }
+
     private void rebind(ObservableList<? extends Item> list) {
         if (lastBoundList.isPresent()) {
             final ObservableList<? extends Item> lastBound =
@@ -250,17 +361,17 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePilot(Pilot target) {
-        pilotManager.removeItem(target);
+        deleteUnlinked(pilotManager, List.of(target.getId()));
     }
 
     @Override
     public void deletePilot(String id) {
-        pilotManager.removeItem(id);
+        deleteUnlinked(pilotManager, List.of(id));
     }
 
     @Override
     public void deletePilotByIndex(int index) throws IndexOutOfBoundException {
-        pilotManager.removeItemByIndex(index);
+        deleteUnlinked(pilotManager, List.of(pilotManager.getItem(index).getId()));
     }
 
     @Override
@@ -269,6 +380,24 @@ public class ModelManager implements Model {
         pilotManager.addItem(pilot);
     }
 
+    @Override
+    public void addPilots(Collection<Pilot> pilots) throws DuplicateItemException {
+        requireNonNull(pilots);
+        pilotManager.addItems(pilots);
+    }
+
+    @Override
+    public void deletePilots(Collection<String> ids) {
+        requireNonNull(ids);
+        deleteUnlinked(pilotManager, ids);
+    }
+
+    @Override
+    public void replacePilots(Collection<Pilot> pilots) {
+        requireNonNull(pilots);
+        pilotManager.replaceItems(pilots);
+    }
+
     @Override
     public void setPilot(Pilot target, Pilot editedPilot) {
         CollectionUtil.requireAllNonNull(target, editedPilot);
@@ -276,27 +405,42 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public boolean checkPilot(String id) {
-        Optional<Pilot> temp = pilotManager.getItemOptional(id);
+    public void updatePilot(Pilot pilot) {
+        requireNonNull(pilot);
+        pilotManager.updateItem(pilot);
+    }
 
-        if (temp.isPresent()) {
-            Pilot pilotToCheck = temp.get();
-            return pilotToCheck.isAvailable();
-        } else {
+    @Override
+    public boolean checkPilot(String id) {
+        final int slot = pilotManager.slotOf(id);
+        if (slot == -1) {
             throw new PilotNotFoundException();
         }
+        return pilotAvailability.isAvailable(slot);
     }
 
     @Override
     public boolean checkPilotByIndex(int index) throws IndexOutOfBoundException {
-        Optional<Pilot> pilot = pilotManager.getItemOptional(index);
-
-        if (pilot.isPresent()) {
-            Pilot pilotToCheck = pilot.get();
-            return pilotToCheck.isAvailable();
-        } else {
+        if (index < 0 || index >= pilotManager.size()) {
             throw new PilotNotFoundException();
         }
+        return checkPilot(pilotManager.getItem(index).getId());
+    }
+
+    @Override
+    public List<Pilot> getAvailablePilots(PilotRank rank) {
+        requireNonNull(rank);
+        return pilotAvailability.getAvailable(rank);
+    }
+
+    @Override
+    public int countAvailablePilots() {
+        return pilotAvailability.countAvailable();
+    }
+
+    @Override
+    public ItemQuery<Pilot> queryPilots() {
+        return pilotManager.query();
     }
 
     @Override
@@ -304,6 +448,12 @@ public class ModelManager implements Model {
         return filteredPilots;
     }
 
+    @Override
+    public List<Pilot> findPilots(String query) {
+        requireNonNull(query);
+        return pilotSearch.search(query);
+    }
+
     @Override
     public void updateFilteredPilotList(Predicate<Pilot> predicate) {
         requireNonNull(predicate);
@@ -356,17 +506,17 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteLocation(Location location) {
-        locationManager.removeItem(location);
+        deleteUnlinked(locationManager, List.of(location.getId()));
     }
 
     @Override
     public void deleteLocation(String id) {
-        locationManager.removeItem(id);
+        deleteUnlinked(locationManager, List.of(id));
     }
 
     @Override
     public void deleteLocationByIndex(int index) throws IndexOutOfBoundException {
-        locationManager.removeItemByIndex(index);
+        deleteUnlinked(locationManager, List.of(locationManager.getItem(index).getId()));
     }
 
     @Override
@@ -375,17 +525,47 @@ public class ModelManager implements Model {
         locationManager.addItem(location);
     }
 
+    @Override
+    public void addLocations(Collection<Location> locations) throws DuplicateItemException {
+        requireNonNull(locations);
+        locationManager.addItems(locations);
+    }
+
+    @Override
+    public void deleteLocations(Collection<String> ids) {
+        requireNonNull(ids);
+        deleteUnlinked(locationManager, ids);
+    }
+
+    @Override
+    public void replaceLocations(Collection<Location> locations) {
+        requireNonNull(locations);
+        locationManager.replaceItems(locations);
+    }
+
     @Override
     public void setLocation(Location target, Location editedLocation) {
         CollectionUtil.requireAllNonNull(target, editedLocation);
         locationManager.setItem(target, editedLocation);
     }
 
+    @Override
+    public void updateLocation(Location location) {
+        requireNonNull(location);
+        locationManager.updateItem(location);
+    }
+
     @Override
     public ObservableList<Location> getFilteredLocationList() {
         return filteredLocations;
     }
 
+    @Override
+    public List<Location> findLocations(String query) {
+        requireNonNull(query);
+        return locationSearch.search(query);
+    }
+
     @Override
     public void updateFilteredLocationList(Predicate<Location> predicate) {
         requireNonNull(predicate);
@@ -435,24 +615,42 @@ public class ModelManager implements Model {
         crewManager.addItem(crew);
     }
 
+    @Override
+    public void addCrews(Collection<Crew> crews) throws DuplicateItemException {
+        requireNonNull(crews);
+        crewManager.addItems(crews);
+    }
+
+    @Override
+    public void deleteCrews(Collection<String> ids) {
+        requireNonNull(ids);
+        deleteUnlinked(crewManager, ids);
+    }
+
+    @Override
+    public void replaceCrews(Collection<Crew> crews) {
+        requireNonNull(crews);
+        crewManager.replaceItems(crews);
+    }
+
     @Override
     public void deleteCrew(Crew crew) {
-        crewManager.removeItem(crew);
+        deleteUnlinked(crewManager, List.of(crew.getId()));
     }
 
     @Override
     public void deleteCrew(String id) {
-        crewManager.removeItem(id);
+        deleteUnlinked(crewManager, List.of(id));
     }
 
     @Override
     public void deleteCrew(int index) throws IndexOutOfBoundException {
-        crewManager.removeItemByIndex(index);
+        deleteUnlinked(crewManager, List.of(crewManager.getItem(index).getId()));
     }
 
     @Override
     public void deleteCrewByIndex(int index) throws IndexOutOfBoundException {
-        crewManager.removeItemByIndex(index);
+        deleteUnlinked(crewManager, List.of(crewManager.getItem(index).getId()));
     }
 
     @Override
@@ -462,27 +660,48 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public boolean checkCrew(String id) {
-        Optional<Crew> temp = crewManager.getItemOptional(id);
+    public void updateCrew(Crew crew) {
+        requireNonNull(crew);
+        crewManager.updateItem(crew);
+    }
 
-        if (temp.isPresent()) {
-            Crew crewToCheck = temp.get();
-            return crewToCheck.isAvailable();
-        } else {
+    @Override
+    public boolean checkCrew(String id) {
+        final int slot = crewManager.slotOf(id);
+        if (slot == -1) {
             throw new CrewNotFoundException();
         }
+        return crewAvailability.isAvailable(slot);
     }
 
     @Override
     public boolean checkCrewByIndex(int index) throws CrewNotFoundException {
-        Optional<Crew> crew = crewManager.getItemOptional(index);
-
-        if (crew.isPresent()) {
-            Crew crewToCheck = crew.get();
-            return crewToCheck.isAvailable();
-        } else {
+        if (index < 0 || index >= crewManager.size()) {
             throw new CrewNotFoundException();
         }
+        return checkCrew(crewManager.getItem(index).getId());
+    }
+
+    @Override
+    public List<Crew> getAvailableCrew(CrewRank rank) {
+        requireNonNull(rank);
+        return crewAvailability.getAvailable(rank);
+    }
+
+    @Override
+    public int countAvailableCrew() {
+        return crewAvailability.countAvailable();
+    }
+
+    @Override
+    public ItemQuery<Crew> queryCrew() {
+        return crewManager.query();
+    }
+
+    @Override
+    public List<Crew> findCrew(String query) {
+        requireNonNull(query);
+        return crewSearch.search(query);
     }
 
     @Override
@@ -514,19 +733,37 @@ public class ModelManager implements Model {
         planeManager.addItem(plane);
     }
 
+    @Override
+    public void addPlanes(Collection<Plane> planes) throws DuplicateItemException {
+        requireNonNull(planes);
+        planeManager.addItems(planes);
+    }
+
+    @Override
+    public void deletePlanes(Collection<String> ids) {
+        requireNonNull(ids);
+        deleteUnlinked(planeManager, ids);
+    }
+
+    @Override
+    public void replacePlanes(Collection<Plane> planes) {
+        requireNonNull(planes);
+        planeManager.replaceItems(planes);
+    }
+
     @Override
     public void deletePlane(Plane plane) {
-        planeManager.removeItem(plane);
+        deleteUnlinked(planeManager, List.of(plane.getId()));
     }
 
     @Override
     public void deletePlane(String id) {
-        planeManager.removeItem(id);
+        deleteUnlinked(planeManager, List.of(id));
     }
 
     @Override
     public void deletePlaneByIndex(int index) throws IndexOutOfBoundException {
-        planeManager.removeItemByIndex(index);
+        deleteUnlinked(planeManager, List.of(planeManager.getItem(index).getId()));
     }
 
     @Override
@@ -547,27 +784,42 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public boolean checkPlane(String id) {
-        Optional<Plane> temp = planeManager.getItemOptional(id);
+    public void updatePlane(Plane plane) {
+        requireNonNull(plane);
+        planeManager.updateItem(plane);
+    }
 
-        if (temp.isPresent()) {
-            Plane planeToCheck = temp.get();
-            return planeToCheck.isAvailable();
-        } else {
+    @Override
+    public boolean checkPlane(String id) {
+        final int slot = planeManager.slotOf(id);
+        if (slot == -1) {
             throw new PlaneNotFoundException();
         }
+        return planeAvailability.isAvailable(slot);
     }
 
     @Override
     public boolean checkPlaneByIndex(int index) throws IndexOutOfBoundException {
-        Optional<Plane> plane = planeManager.getItemOptional(index);
-
-        if (plane.isPresent()) {
-            Plane planeToCheck = plane.get();
-            return planeToCheck.isAvailable();
-        } else {
+        if (index < 0 || index >= planeManager.size()) {
             throw new PlaneNotFoundException();
         }
+        return checkPlane(planeManager.getItem(index).getId());
+    }
+
+    @Override
+    public List<Plane> getAvailablePlanes(String model) {
+        requireNonNull(model);
+        return planeAvailability.getAvailable(model);
+    }
+
+    @Override
+    public int countAvailablePlanes() {
+        return planeAvailability.countAvailable();
+    }
+
+    @Override
+    public ItemQuery<Plane> queryPlanes() {
+        return planeManager.query();
     }
 
     @Override
@@ -575,6 +827,12 @@ public class ModelManager implements Model {
         return filteredPlanes;
     }
 
+    @Override
+    public List<Plane> findPlanes(String query) {
+        requireNonNull(query);
+        return planeSearch.search(query);
+    }
+
     @Override
     public void updateFilteredPlaneList(Predicate<Plane> predicate) {
         requireNonNull(predicate);
@@ -627,17 +885,17 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteFlight(Flight target) {
-        flightManager.removeItem(target);
+        deleteFlightsAndFreeTheirItems(List.of(target.getId()));
     }
 
     @Override
     public void deleteFlight(String id) {
-        flightManager.removeItem(id);
+        deleteFlightsAndFreeTheirItems(List.of(id));
     }
 
     @Override
     public void deleteFlightByIndex(int index) throws IndexOutOfBoundException {
-        flightManager.removeItemByIndex(index);
+        deleteFlightsAndFreeTheirItems(List.of(flightManager.getItem(index).getId()));
     }
 
     @Override
@@ -646,17 +904,47 @@ public class ModelManager implements Model {
         flightManager.addItem(flight);
     }
 
+    @Override
+    public void addFlights(Collection<Flight> flights) throws DuplicateItemException {
+        requireNonNull(flights);
+        flightManager.addItems(flights);
+    }
+
+    @Override
+    public void deleteFlights(Collection<String> ids) {
+        requireNonNull(ids);
+        deleteFlightsAndFreeTheirItems(ids);
+    }
+
+    @Override
+    public void replaceFlights(Collection<Flight> flights) {
+        requireNonNull(flights);
+        flightManager.replaceItems(flights);
+    }
+
     @Override
     public void setFlight(Flight target, Flight editedFlight) {
         CollectionUtil.requireAllNonNull(target, editedFlight);
         flightManager.setItem(target, editedFlight);
     }
 
+    @Override
+    public void updateFlight(Flight flight) {
+        requireNonNull(flight);
+        flightManager.updateItem(flight);
+    }
+
     @Override
     public ObservableList<Flight> getFilteredFlightList() {
         return filteredFlights;
     }
 
+    @Override
+    public List<Flight> findFlights(String query) {
+        requireNonNull(query);
+        return flightSearch.search(query);
+    }
+
     @Override
     public void updateFilteredFlightList(Predicate<Flight> predicate) {
         requireNonNull(predicate);
@@ -664,6 +952,98 @@ public class ModelManager implements Model {
     }
 
 
+    //=========== Links ========================================================
+
+    @Override
+    public List<Flight> getFlightsLinkedTo(String id) {
+        requireNonNull(id);
+        return linkIndex.getReferrers(id, Flight.class);
+    }
+
+    @Override
+    public List<Location> getLocationsLinkedTo(String id) {
+        requireNonNull(id);
+        return linkIndex.getReferrers(id, Location.class);
+    }
+
+    /**
+     * Deletes the items with the given ids, after removing the ids from the
+     * links of the flights and locations that link to them. The referrers
+     * are found through the reverse link index, so that this takes time
+     * proportional to the number of them rather than to the number of all
+     * the flights and locations.
+     *
+     * @param manager the manager of the items.
+     * @param ids     the ids of the items to delete, which must all exist.
+     */
+    private <T extends Item> void deleteUnlinked(ItemManager<T> manager, Collection<String> ids) {
+        requireAllExist(manager, ids);
+        for (String id : ids) {
+            for (Flight flight : getFlightsLinkedTo(id)) {
+                flight.getLinks().forEach(link -> link.removeAll(id));
+            }
+            for (Location location : getLocationsLinkedTo(id)) {
+                location.getLinks().forEach(link -> link.removeAll(id));
+            }
+        }
+        manager.removeItems(ids);
+    }
+
+    /**
+     * Deletes the flights with the given ids. Their pilots, crew and planes,
+     * which were made unavailable when they were linked to the flights, are
+     * made available again, unless another flight still links to them.
+     *
+     * @param ids the ids of the flights to delete, which must all exist.
+     */
+    private void deleteFlightsAndFreeTheirItems(Collection<String> ids) {
+        requireAllExist(flightManager, ids);
+        // the items are compared by identity, as different items may be equal.
+        final Set<Pilot> pilots = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Crew> crew = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Plane> planes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String id : ids) {
+            final Flight flight = flightManager.getItem(id);
+            pilots.addAll(getLinkedItems(flight.getPilotLink()));
+            crew.addAll(getLinkedItems(flight.getCrewLink()));
+            planes.addAll(getLinkedItems(flight.getPlaneLink()));
+        }
+        flightManager.removeItems(ids);
+        freeUnlinked(pilotManager, pilots, Pilot::setAvailable);
+        freeUnlinked(crewManager, crew, Crew::setAvailable);
+        freeUnlinked(planeManager, planes, Plane::setAvailable);
+    }
+
+    private <T extends Item> void freeUnlinked(ItemManager<T> manager, Set<T> items, Consumer<T> setAvailable) {
+        for (T item : items) {
+            if (getFlightsLinkedTo(item.getId()).isEmpty()) {
+                setAvailable.accept(item);
+                manager.updateItem(item);
+            }
+        }
+    }
+
+    private static <K, T extends Item> List<T> getLinkedItems(Link<K, T, ?> link) {
+        final List<T> items = new ArrayList<>();
+        for (K key : link.getUnmodifiableKeys()) {
+            try {
+                items.addAll(link.getValid(key));
+            } catch (LinkException e) {
+                // the keys of a link are always valid.
+                throw new IllegalStateException(e);
+            }
+        }
+        return items;
+    }
+
+    private static void requireAllExist(ItemManager<?> manager, Collection<String> ids) {
+        for (String id : ids) {
+            if (!manager.hasItem(id)) {
+                throw new ItemNotFoundException(id);
+            }
+        }
+    }
+
     //=========== Generic ========================================================
 
     @Override
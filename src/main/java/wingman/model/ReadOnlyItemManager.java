@@ -29,7 +29,8 @@ public interface ReadOnlyItemManager<T extends Item> {
     boolean hasItem(String id);
 
     /**
-     * Returns the item with the given ID.
+     * Returns the item with the given ID. This is a constant time lookup, as
+     * it is done for every link that is resolved.
      *
      * @param id the ID of the item to get
      * @return the item with the given ID
@@ -69,6 +70,15 @@ public interface ReadOnlyItemManager<T extends Item> {
      */
     int size();
 
+    /**
+     * Returns the number of modifications made to this manager so far. If
+     * this value has not changed between two calls, then the manager has
+     * not been modified in between.
+     *
+     * @return the number of modifications made to this manager.
+     */
+    long getVersion();
+
     /**
      * Returns an unmodifiable view of the items list. This list will not
      * contain any duplicate items.
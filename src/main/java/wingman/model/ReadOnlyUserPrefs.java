@@ -12,6 +12,24 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     OperationMode getOperationMode();
+
+    /**
+     * Returns the way in which the item managers are persisted.
+     *
+     * @return the storage mode of the application
+     */
+    StorageMode getStorageMode();
+
+    /**
+     * Returns whether the item managers are saved on a background thread,
+     * rather than on the thread that changed them. This is off by default,
+     * so that a command does not report success before its changes are
+     * saved.
+     *
+     * @return whether the item managers are saved on a background thread
+     */
+    boolean isBackgroundSaveEnabled();
+
     /**
      * Returns the file path of the pilotManager
      *
@@ -0,0 +1,21 @@
+package wingman.model;
+
+/**
+ * The way in which the item managers are persisted to the disk.
+ */
+public enum StorageMode {
+    /**
+     * Every modified manager is written to its data file as a whole.
+     */
+    JSON,
+    /**
+     * Every change is appended to a journal next to the data file, which is
+     * compacted into the data file every now and then.
+     */
+    JOURNAL,
+    /**
+     * Every modified manager is written as a whole to a compact binary file
+     * next to the data file, which is much faster to load.
+     */
+    BINARY
+}
@@ -35,6 +35,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private int operationModeId = 0;
 
+    private StorageMode storageMode = StorageMode.JSON;
+
+    private boolean isBackgroundSaveEnabled = false;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -60,6 +64,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setCrewManagerFilePath(newUserPrefs.getCrewManagerFilePath());
         setPlaneManagerFilePath(newUserPrefs.getPlaneManagerFilePath());
         setFlightManagerFilePath(newUserPrefs.getFlightManagerFilePath());
+        setStorageMode(newUserPrefs.getStorageMode());
+        setBackgroundSaveEnabled(newUserPrefs.isBackgroundSaveEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -94,6 +100,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
 
 
+    // =================== StorageMode ===================
+
+    @Override
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Sets the way in which the item managers are persisted.
+     *
+     * @param storageMode the new storage mode of the application
+     */
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+
+    // =================== BackgroundSave ===================
+
+    @Override
+    public boolean isBackgroundSaveEnabled() {
+        return isBackgroundSaveEnabled;
+    }
+
+    /**
+     * Sets whether the item managers are saved on a background thread.
+     *
+     * @param isBackgroundSaveEnabled whether the item managers are saved on
+     *                                a background thread
+     */
+    public void setBackgroundSaveEnabled(boolean isBackgroundSaveEnabled) {
+        this.isBackgroundSaveEnabled = isBackgroundSaveEnabled;
+    }
+
+
     // =================== PilotManager ===================
 
     @Override
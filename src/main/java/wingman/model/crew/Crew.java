@@ -2,8 +2,10 @@ package wingman.model.crew;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import wingman.model.item.Attribute;
 import wingman.model.item.Item;
 import wingman.model.location.CrewLocationType;
 
@@ -25,6 +27,11 @@ public class Crew implements Item {
             Map.of(
                     CrewLocationType.LOCATION_USING, 1000000
             );
+    /**
+     * The attributes that the crew can be indexed and queried by.
+     */
+    public static final Attribute<Crew, String> NAME = Attribute.of("name", Crew::getName);
+    public static final Attribute<Crew, CrewRank> RANK = Attribute.of("rank", Crew::getRank);
     private static final String RANK_STRING = "Rank";
     private static final String AVAILABILITY_STRING = "Status";
     private final String id;
@@ -148,4 +155,9 @@ public class Crew implements Item {
 
         return ((other.getName().equals(getName())) && (other.getRank() == this.getRank()));
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, rank);
+    }
 }
@@ -1,6 +1,7 @@
 package wingman.model.flight;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import wingman.commons.util.GetUtil;
@@ -8,6 +9,7 @@ import wingman.model.Model;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.crew.Crew;
 import wingman.model.crew.FlightCrewType;
+import wingman.model.item.Attribute;
 import wingman.model.item.Item;
 import wingman.model.link.Link;
 import wingman.model.link.exceptions.LinkException;
@@ -22,6 +24,11 @@ import wingman.model.plane.Plane;
  * Represents a flight object in wingman
  */
 public class Flight implements Item {
+    /**
+     * The attribute that the flights can be searched by.
+     */
+    public static final Attribute<Flight, String> CODE = Attribute.of("code", Flight::getCode);
+
     public final Link<FlightPilotType, Pilot, ReadOnlyItemManager<Pilot>> pilotLink;
     public final Link<FlightCrewType, Crew, ReadOnlyItemManager<Crew>> crewLink;
     public final Link<FlightPlaneType, Plane, ReadOnlyItemManager<Plane>> planeLink;
@@ -122,6 +129,15 @@ public class Flight implements Item {
         return locationLink;
     }
 
+    /**
+     * Returns all the links of the flight.
+     *
+     * @return the links to pilots, crew, planes and locations.
+     */
+    public List<Link<?, ?, ?>> getLinks() {
+        return List.of(pilotLink, crewLink, planeLink, locationLink);
+    }
+
     /**
      * Sets a departure or arrival location for this flight.
      * If the location is already set, it will replace the existing location.
@@ -181,4 +197,9 @@ public class Flight implements Item {
 
         return other.getCode().equals(getCode());
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code);
+    }
 }
@@ -0,0 +1,57 @@
+package wingman.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+/**
+ * An attribute of an item, e.g. the rank of a pilot, which the items of a
+ * manager can be indexed and queried by. Attributes are compared by
+ * identity, so each should be declared once, as a constant.
+ *
+ * @param <T> the type of the items.
+ * @param <K> the type of the values of the attribute.
+ */
+public final class Attribute<T extends Item, K> {
+    private final String name;
+    private final Function<T, K> getter;
+
+    private Attribute(String name, Function<T, K> getter) {
+        this.name = name;
+        this.getter = getter;
+    }
+
+    /**
+     * Creates an attribute whose value is given by the getter.
+     *
+     * @param name   the name of the attribute.
+     * @param getter gets the value of the attribute of an item.
+     * @param <T>    the type of the items.
+     * @param <K>    the type of the values of the attribute.
+     * @return the attribute.
+     */
+    public static <T extends Item, K> Attribute<T, K> of(String name, Function<T, K> getter) {
+        requireNonNull(name);
+        requireNonNull(getter);
+        return new Attribute<>(name, getter);
+    }
+
+    /**
+     * Returns the value of this attribute of the given item.
+     *
+     * @param item the item.
+     * @return the value of the attribute.
+     */
+    public K get(T item) {
+        return getter.apply(item);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,101 @@
+package wingman.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An index of the slots of the items by the value of an attribute. This
+ * keeps the value of the item in each slot, so that the slot can be moved
+ * out of the old value when the item changes or is removed; the subclasses
+ * decide how the slots of each value are kept and looked up.
+ *
+ * @param <T> the type of the items indexed.
+ * @param <K> the type of the values of the attribute.
+ */
+public abstract class AttributeIndex<T extends Item, K> implements ItemIndex<T> {
+    private final Attribute<T, K> attribute;
+
+    /**
+     * The value of the item in each slot.
+     */
+    private final List<K> valueIn = new ArrayList<>();
+
+    /**
+     * The slots that hold an item, as the value of an item may be null.
+     */
+    private final BitSet indexedSlots = new BitSet();
+
+    /**
+     * Creates an empty index by the given attribute.
+     *
+     * @param attribute the attribute that the items are indexed by.
+     */
+    protected AttributeIndex(Attribute<T, K> attribute) {
+        requireNonNull(attribute);
+        this.attribute = attribute;
+    }
+
+    public Attribute<T, K> getAttribute() {
+        return attribute;
+    }
+
+    @Override
+    public void index(T item, int slot) {
+        requireNonNull(item);
+        final K value = attribute.get(item);
+        if (indexedSlots.get(slot)) {
+            final K oldValue = valueIn.set(slot, value);
+            if (Objects.equals(oldValue, value)) {
+                return;
+            }
+            remove(oldValue, slot);
+        } else {
+            while (valueIn.size() <= slot) {
+                valueIn.add(null);
+            }
+            valueIn.set(slot, value);
+            indexedSlots.set(slot);
+        }
+        add(value, slot);
+    }
+
+    @Override
+    public void unindex(int slot) {
+        if (!indexedSlots.get(slot)) {
+            return;
+        }
+        remove(valueIn.set(slot, null), slot);
+        indexedSlots.clear(slot);
+    }
+
+    @Override
+    public void clear() {
+        for (int slot = indexedSlots.nextSetBit(0); slot >= 0; slot = indexedSlots.nextSetBit(slot + 1)) {
+            remove(valueIn.get(slot), slot);
+        }
+        valueIn.clear();
+        indexedSlots.clear();
+    }
+
+    /**
+     * Returns the slots of the items whose attribute has the given value.
+     *
+     * @param value the value of the attribute.
+     * @return the slots of the items, which may be modified.
+     */
+    public abstract BitSet slotsOf(K value);
+
+    /**
+     * Records that the item in the given slot has the given value.
+     */
+    protected abstract void add(K value, int slot);
+
+    /**
+     * Records that the item in the given slot no longer has the given value.
+     */
+    protected abstract void remove(K value, int slot);
+}
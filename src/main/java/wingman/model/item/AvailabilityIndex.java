@@ -0,0 +1,146 @@
+package wingman.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The index of the items that are available, e.g. the pilots that are not
+ * assigned to any flight, kept as bitsets over the slots of the items.
+ * <p>
+ * One bitset marks the slots of the available items, and a
+ * {@link HashIndex} marks the slots of the items in each category,
+ * e.g. each rank. Finding or counting the available items of a category thus intersects
+ * two bitsets a word at a time, instead of checking the items one by one.
+ * <p>
+ * As the availability of an item is changed in place, the index is only
+ * kept up to date if the item is updated through its manager afterwards.
+ *
+ * @param <T> the type of the items indexed.
+ * @param <K> the type of the categories of the items.
+ */
+public class AvailabilityIndex<T extends Item, K> implements ItemIndex<T> {
+    private final Predicate<T> isAvailable;
+
+    /**
+     * The slots of the available items.
+     */
+    private final BitSet available = new BitSet();
+
+    /**
+     * The slots of the items in each category.
+     */
+    private final HashIndex<T, K> categories;
+
+    /**
+     * The item in each slot, to find the items in the slots found.
+     */
+    private final List<T> itemInSlot = new ArrayList<>();
+
+    /**
+     * Creates an index of the items that are available.
+     *
+     * @param isAvailable tells if an item is available.
+     * @param category    the attribute that gives the category of an item.
+     */
+    public AvailabilityIndex(Predicate<T> isAvailable, Attribute<T, K> category) {
+        requireNonNull(isAvailable);
+        this.isAvailable = isAvailable;
+        this.categories = new HashIndex<>(category);
+    }
+
+    @Override
+    public void index(T item, int slot) {
+        requireNonNull(item);
+        while (itemInSlot.size() <= slot) {
+            itemInSlot.add(null);
+        }
+        itemInSlot.set(slot, item);
+        available.set(slot, isAvailable.test(item));
+        categories.index(item, slot);
+    }
+
+    @Override
+    public void unindex(int slot) {
+        if (slot < itemInSlot.size()) {
+            itemInSlot.set(slot, null);
+        }
+        available.clear(slot);
+        categories.unindex(slot);
+    }
+
+    @Override
+    public void clear() {
+        itemInSlot.clear();
+        available.clear();
+        categories.clear();
+    }
+
+    /**
+     * Returns true if the item in the given slot is available.
+     *
+     * @param slot the slot of the item.
+     * @return true if the item is available.
+     */
+    public boolean isAvailable(int slot) {
+        return available.get(slot);
+    }
+
+    /**
+     * Returns the number of items that are available.
+     *
+     * @return the number of available items.
+     */
+    public int countAvailable() {
+        return available.cardinality();
+    }
+
+    /**
+     * Returns the number of items of the given category that are available.
+     *
+     * @param category the category of the items.
+     * @return the number of available items of the category.
+     */
+    public int countAvailable(K category) {
+        return availableIn(category).cardinality();
+    }
+
+    /**
+     * Returns the items that are available, in the order of the item list,
+     * which is also the order of their slots.
+     *
+     * @return the available items.
+     */
+    public List<T> getAvailable() {
+        return itemsAt(available);
+    }
+
+    /**
+     * Returns the items of the given category that are available, in the
+     * order of the item list.
+     *
+     * @param category the category of the items.
+     * @return the available items of the category.
+     */
+    public List<T> getAvailable(K category) {
+        return itemsAt(availableIn(category));
+    }
+
+    private BitSet availableIn(K category) {
+        requireNonNull(category);
+        final BitSet bits = categories.slotsOf(category);
+        bits.and(available);
+        return bits;
+    }
+
+    private List<T> itemsAt(BitSet slots) {
+        final List<T> result = new ArrayList<>(slots.cardinality());
+        for (int i = slots.nextSetBit(0); i >= 0; i = slots.nextSetBit(i + 1)) {
+            result.add(itemInSlot.get(i));
+        }
+        return result;
+    }
+}
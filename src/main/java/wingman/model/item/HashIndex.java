@@ -0,0 +1,58 @@
+package wingman.model.item;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index of the slots of the items by the value of an attribute that has
+ * few distinct values, e.g. the rank of a pilot. The slots of each value
+ * are kept as a bitset, so that they can be intersected with those of
+ * other indexes a word at a time.
+ *
+ * @param <T> the type of the items indexed.
+ * @param <K> the type of the values of the attribute.
+ */
+public class HashIndex<T extends Item, K> extends AttributeIndex<T, K> {
+    private final Map<K, BitSet> slots = new HashMap<>();
+
+    /**
+     * Creates an empty index by the given attribute.
+     *
+     * @param attribute the attribute that the items are indexed by.
+     */
+    public HashIndex(Attribute<T, K> attribute) {
+        super(attribute);
+    }
+
+    @Override
+    public BitSet slotsOf(K value) {
+        final BitSet found = slots.get(value);
+        return found == null ? new BitSet() : (BitSet) found.clone();
+    }
+
+    /**
+     * Returns the number of items whose attribute has the given value.
+     *
+     * @param value the value of the attribute.
+     * @return the number of items with the value.
+     */
+    public int count(K value) {
+        final BitSet found = slots.get(value);
+        return found == null ? 0 : found.cardinality();
+    }
+
+    @Override
+    protected void add(K value, int slot) {
+        slots.computeIfAbsent(value, v -> new BitSet()).set(slot);
+    }
+
+    @Override
+    protected void remove(K value, int slot) {
+        final BitSet found = slots.get(value);
+        found.clear(slot);
+        if (found.isEmpty()) {
+            slots.remove(value);
+        }
+    }
+}
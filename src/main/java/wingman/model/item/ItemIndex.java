@@ -0,0 +1,34 @@
+package wingman.model.item;
+
+/**
+ * An index over the items of an {@code ItemManager}, keyed by the slot of
+ * each item in the manager. An item keeps its slot for as long as it is in
+ * the manager, so the manager only tells the index about the items that
+ * have changed, and removing an item does not move the other items in the
+ * index.
+ *
+ * @param <T> the type of the items indexed.
+ */
+public interface ItemIndex<T extends Item> {
+    /**
+     * Indexes the item in the given slot, as it has been added, replaced or
+     * modified in place, e.g. when its availability changes.
+     *
+     * @param item the item in the slot.
+     * @param slot the slot of the item.
+     */
+    void index(T item, int slot);
+
+    /**
+     * Forgets the item in the given slot, as it has been removed.
+     *
+     * @param slot the slot of the removed item.
+     */
+    void unindex(int slot);
+
+    /**
+     * Forgets all the items, e.g. before they are indexed again in other
+     * slots.
+     */
+    void clear();
+}
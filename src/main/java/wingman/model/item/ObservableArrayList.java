@@ -0,0 +1,83 @@
+package wingman.model.item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an array list, which can also replace the
+ * items at several positions as a single change. The lists created by
+ * {@code FXCollections} fire a change for each item that is set, or a
+ * change that replaces the whole list when they are set all at once.
+ *
+ * @param <T> the type of the items in the list.
+ */
+class ObservableArrayList<T> extends ModifiableObservableListBase<T> {
+    private final List<T> items;
+
+    /**
+     * Creates an empty list.
+     */
+    ObservableArrayList() {
+        this.items = new ArrayList<>();
+    }
+
+    /**
+     * Creates a list with the given items.
+     *
+     * @param items the items in the list.
+     */
+    ObservableArrayList(Collection<? extends T> items) {
+        this.items = new ArrayList<>(items);
+    }
+
+    /**
+     * Replaces the item at each of the given positions with the given item,
+     * firing a single change that only replaces those positions.
+     *
+     * @param replacements the item to put at each position.
+     */
+    void setAll(SortedMap<Integer, T> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            for (Map.Entry<Integer, T> replacement : replacements.entrySet()) {
+                final int position = replacement.getKey();
+                nextSet(position, items.set(position, replacement.getValue()));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        items.add(index, element);
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        return items.set(index, element);
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        return items.remove(index);
+    }
+}
@@ -0,0 +1,211 @@
+package wingman.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The index of the items by the n-grams of a text attribute, e.g. the name
+ * of a pilot, to find the items whose text contains the words searched for.
+ * <p>
+ * The text of each item is indexed, in lower case, by each substring of
+ * {@value #GRAM_LENGTH} characters. A search only checks the items under
+ * the rarest n-gram of the words searched for, as every item whose text
+ * contains all the words must be among them; words shorter than an n-gram
+ * have no n-grams, so a search for only such words checks every item.
+ * <p>
+ * The index is kept by the identity of the items; only the item in each
+ * slot is remembered, to tell which item a slot held when it is changed or
+ * removed.
+ *
+ * @param <T> the type of the items indexed.
+ */
+public class SearchIndex<T extends Item> implements ItemIndex<T> {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Attribute<T, String> text;
+
+    /**
+     * The items whose text contains each n-gram.
+     */
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * The item in each slot, or null if the slot is free.
+     */
+    private final List<T> itemInSlot = new ArrayList<>();
+
+    /**
+     * All the items indexed.
+     */
+    private final Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates an empty index by the given text attribute.
+     *
+     * @param text the attribute whose text the items are found by.
+     */
+    public SearchIndex(Attribute<T, String> text) {
+        requireNonNull(text);
+        this.text = text;
+    }
+
+    @Override
+    public void index(T item, int slot) {
+        requireNonNull(item);
+        while (itemInSlot.size() <= slot) {
+            itemInSlot.add(null);
+        }
+        final T oldItem = itemInSlot.set(slot, item);
+        if (oldItem != item) {
+            if (oldItem != null) {
+                unindex(oldItem);
+            }
+            index(item);
+        }
+    }
+
+    @Override
+    public void unindex(int slot) {
+        if (slot >= itemInSlot.size()) {
+            return;
+        }
+        final T oldItem = itemInSlot.set(slot, null);
+        if (oldItem != null) {
+            unindex(oldItem);
+        }
+    }
+
+    @Override
+    public void clear() {
+        itemInSlot.clear();
+        items.clear();
+        postings.clear();
+    }
+
+    private void index(T item) {
+        items.add(item);
+        for (String gram : gramsOf(normalize(text.get(item)))) {
+            postings.computeIfAbsent(gram, g -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    private void unindex(T item) {
+        items.remove(item);
+        for (String gram : gramsOf(normalize(text.get(item)))) {
+            final Set<T> gramItems = postings.get(gram);
+            gramItems.remove(item);
+            if (gramItems.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Finds the items whose text contains all the words of the given query,
+     * ignoring case, with the best matches first: those whose text is the
+     * query, then those whose text starts with it, then those with a word
+     * that starts with it, then the rest, each with the shortest text first
+     * and then in alphabetical order.
+     *
+     * @param query the words to search for.
+     * @return the matching items, best first.
+     */
+    public List<T> search(String query) {
+        requireNonNull(query);
+        final String normalizedQuery = normalize(query).trim();
+        final String[] words = normalizedQuery.split("\\s+");
+        final List<Match<T>> matches = new ArrayList<>();
+        for (T item : candidatesFor(words)) {
+            final String itemText = normalize(text.get(item));
+            if (containsAll(itemText, words)) {
+                matches.add(new Match<>(item, itemText, rank(itemText, normalizedQuery)));
+            }
+        }
+        matches.sort(Comparator.<Match<T>>comparingInt(match -> match.rank)
+                               .thenComparingInt(match -> match.text.length())
+                               .thenComparing(match -> match.text));
+        final List<T> result = new ArrayList<>(matches.size());
+        matches.forEach(match -> result.add(match.item));
+        return result;
+    }
+
+    /**
+     * Returns the items under the rarest n-gram of the given words, or all
+     * the items if the words have no n-grams.
+     */
+    private Collection<T> candidatesFor(String[] words) {
+        Collection<T> rarest = items;
+        for (String word : words) {
+            for (String gram : gramsOf(word)) {
+                final Set<T> gramItems = postings.getOrDefault(gram, Collections.emptySet());
+                if (gramItems.size() < rarest.size()) {
+                    rarest = gramItems;
+                }
+            }
+        }
+        return rarest;
+    }
+
+    private static boolean containsAll(String itemText, String[] words) {
+        for (String word : words) {
+            if (!itemText.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int rank(String itemText, String query) {
+        if (itemText.equals(query)) {
+            return 0;
+        }
+        if (itemText.startsWith(query)) {
+            return 1;
+        }
+        if (itemText.contains(" " + query)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct n-grams of the given text.
+     */
+    private static Set<String> gramsOf(String text) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * An item that matches a search, with what it is ranked by.
+     */
+    private static class Match<T> {
+        private final T item;
+        private final String text;
+        private final int rank;
+
+        private Match(T item, String text, int rank) {
+            this.item = item;
+            this.text = text;
+            this.rank = rank;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package wingman.model.item;
+
+import java.util.Arrays;
+
+/**
+ * Counts the occupied slots before any slot in O(log n) time, as a Fenwick
+ * tree over the slots. A {@link UniqueList} keeps its items in slots in
+ * the same order as the list, so the number of occupied slots before the
+ * slot of an item is its position in the list.
+ */
+class SlotCounter {
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The capacity of the tree, which is always a power of two.
+     */
+    private int capacity;
+
+    /**
+     * The tree, indexed from 1, where each node counts the occupied slots in
+     * the range of slots that it covers.
+     */
+    private int[] tree;
+
+    /**
+     * Creates a counter with no occupied slots.
+     */
+    SlotCounter() {
+        reset(0);
+    }
+
+    /**
+     * Frees all the slots, and then occupies the given number of slots from
+     * the first one, in linear time.
+     *
+     * @param occupied the number of slots to occupy.
+     */
+    void reset(int occupied) {
+        capacity = MIN_CAPACITY;
+        while (capacity < occupied) {
+            capacity *= 2;
+        }
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            // the node at i covers the slots after i - lowestBit(i), up to i.
+            final int coveredFrom = i - (i & -i);
+            tree[i] = Math.max(0, Math.min(i, occupied) - coveredFrom);
+        }
+    }
+
+    /**
+     * Marks the given slot as occupied.
+     *
+     * @param slot the slot, which must be free.
+     */
+    void occupy(int slot) {
+        ensureCapacity(slot + 1);
+        add(slot, 1);
+    }
+
+    /**
+     * Marks the given slot as free.
+     *
+     * @param slot the slot, which must be occupied.
+     */
+    void free(int slot) {
+        add(slot, -1);
+    }
+
+    /**
+     * Returns the number of occupied slots before the given slot.
+     *
+     * @param slot the slot.
+     * @return the number of occupied slots before it.
+     */
+    int countBefore(int slot) {
+        int count = 0;
+        for (int i = Math.min(slot, capacity); i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    private void add(int slot, int delta) {
+        for (int i = slot + 1; i <= capacity; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Doubles the capacity until it has the given number of slots. The nodes
+     * of the old tree cover the same slots as before, and of the new nodes,
+     * only the last one covers any occupied slots: all of those of the old
+     * tree, which its last node counts.
+     */
+    private void ensureCapacity(int slots) {
+        while (capacity < slots) {
+            final int oldCapacity = capacity;
+            capacity *= 2;
+            tree = Arrays.copyOf(tree, capacity + 1);
+            tree[capacity] = tree[oldCapacity];
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package wingman.model.item;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the slots of the items in the order of the value of an
+ * attribute, e.g. the age of a pilot, so that the items whose value is in
+ * a range are found without testing every item.
+ * <p>
+ * As such attributes may have as many distinct values as there are items,
+ * the slots of each value are kept as a set rather than a bitset, and only
+ * the slots in a range are turned into a bitset. As an item keeps its slot
+ * until it is removed, only the set of its own value changes when it is.
+ *
+ * @param <T> the type of the items indexed.
+ * @param <K> the type of the values of the attribute.
+ */
+public class SortedIndex<T extends Item, K extends Comparable<? super K>> extends AttributeIndex<T, K> {
+    private final NavigableMap<K, Set<Integer>> slots = new TreeMap<>();
+
+    /**
+     * Creates an empty index by the given attribute.
+     *
+     * @param attribute the attribute that the items are indexed by.
+     */
+    public SortedIndex(Attribute<T, K> attribute) {
+        super(attribute);
+    }
+
+    @Override
+    public BitSet slotsOf(K value) {
+        if (value == null) {
+            // the index cannot hold null values.
+            return new BitSet();
+        }
+        return slotsIn(value, true, value, true);
+    }
+
+    /**
+     * Returns the slots of the items whose attribute is in the given range.
+     *
+     * @param from          the lower bound of the range, or null if there
+     *                      is none.
+     * @param fromInclusive true if the lower bound is in the range.
+     * @param to            the upper bound of the range, or null if there
+     *                      is none.
+     * @param toInclusive   true if the upper bound is in the range.
+     * @return the slots of the items in the range.
+     */
+    public BitSet slotsIn(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        NavigableMap<K, Set<Integer>> range = slots;
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            return new BitSet();
+        }
+        if (from != null) {
+            range = range.tailMap(from, fromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap(to, toInclusive);
+        }
+        final BitSet found = new BitSet();
+        for (Set<Integer> valueSlots : range.values()) {
+            valueSlots.forEach(found::set);
+        }
+        return found;
+    }
+
+    @Override
+    protected void add(K value, int slot) {
+        slots.computeIfAbsent(value, v -> new HashSet<>()).add(slot);
+    }
+
+    @Override
+    protected void remove(K value, int slot) {
+        final Set<Integer> valueSlots = slots.get(value);
+        valueSlots.remove(slot);
+        if (valueSlots.isEmpty()) {
+            slots.remove(value);
+        }
+    }
+}
@@ -2,12 +2,19 @@ package wingman.model.item;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,11 +30,12 @@ import wingman.model.item.exceptions.ItemNotFoundException;
  *            unique ID.
  */
 public class UniqueList<T extends Item> implements Iterable<T> {
+    private static final int MIN_FREE_SLOTS_RECLAIMED = 64;
 
     /**
      * The internal list responsible for holding the items.
      */
-    private final ObservableList<T> internalList;
+    private final ObservableArrayList<T> internalList;
 
     /**
      * The internal map responsible for holding the items. This would allow
@@ -35,6 +43,44 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      */
     private final Map<String, T> internalMap;
 
+    /**
+     * The slot of each item, keyed by id. Each item is given the slot after
+     * the last one when it is added, and keeps it until it is removed, so
+     * the slots are in the same order as the {@code internalList}. Removing
+     * an item frees its slot without moving the other items to other slots.
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * The item in each slot, or null if the slot is free.
+     */
+    private final List<T> itemInSlot;
+
+    /**
+     * The slots that hold an item.
+     */
+    private final BitSet occupiedSlots;
+
+    /**
+     * Counts the items in the slots before the slot of an item, which is the
+     * position of the item in the {@code internalList}.
+     */
+    private final SlotCounter slotCounter;
+
+    /**
+     * The number of times that the items have been moved to other slots,
+     * e.g. when the free slots are reclaimed.
+     */
+    private int slotGeneration;
+
+    /**
+     * The number of items in the list that are equal to each item, so that
+     * finding an equal item does not compare it with every item in the
+     * list. Items with different IDs may be equal, e.g. two pilots with the
+     * same name.
+     */
+    private final Map<T, Integer> equalCounts;
+
     /**
      * The unmodifiable view of the {@code internalList}.
      */
@@ -47,10 +93,17 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      * @param internalList the list of items out of which the {@code UniqueList}
      *                     will be created.
      */
-    private UniqueList(ObservableList<T> internalList) {
+    private UniqueList(ObservableArrayList<T> internalList) {
         this.internalList = internalList;
         this.internalMap = new HashMap<>();
+        this.slots = new HashMap<>();
+        this.itemInSlot = new ArrayList<>();
+        this.occupiedSlots = new BitSet();
+        this.slotCounter = new SlotCounter();
+        this.equalCounts = new HashMap<>();
         internalList.forEach((val) -> internalMap.put(val.getId(), val));
+        internalList.forEach(this::countEqual);
+        renumberSlots();
         internalUnmodifiableList = FXCollections.unmodifiableObservableList(
                 internalList);
     }
@@ -59,12 +112,12 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      * Creates an empty {@code UniqueList}.
      */
     public UniqueList() {
-        this(FXCollections.observableArrayList());
+        this(new ObservableArrayList<>());
     }
 
     /**
-     * Creates a {@code UniqueList} from the given list of items. Please make
-     * sure that the items in the list are unique.
+     * Creates a {@code UniqueList} with a copy of the given list of items.
+     * Please make sure that the items in the list are unique.
      *
      * @param internalList the list of items out of which the {@code UniqueList}
      *                     will be created.
@@ -81,7 +134,7 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         if (!internalList.isEmpty() && itemsHaveDuplicate(internalList)) {
             throw new DuplicateItemException(internalList.get(0).getClass());
         }
-        return new UniqueList<>(internalList);
+        return new UniqueList<>(new ObservableArrayList<>(internalList));
     }
 
     /**
@@ -94,7 +147,15 @@ public class UniqueList<T extends Item> implements Iterable<T> {
     public boolean contains(T toCheck) {
         return internalMap.containsKey(toCheck.getId())
                 ||
-                internalList.contains(toCheck);
+                equalCounts.containsKey(toCheck);
+    }
+
+    private void countEqual(T item) {
+        equalCounts.merge(item, 1, Integer::sum);
+    }
+
+    private void uncountEqual(T item) {
+        equalCounts.computeIfPresent(item, (key, count) -> count == 1 ? null : count - 1);
     }
 
     /**
@@ -117,8 +178,135 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         if (contains(toAdd)) {
             throw new DuplicateItemException(toAdd.getClass());
         }
+        occupyNextSlot(toAdd);
         internalList.add(toAdd);
         internalMap.put(toAdd.getId(), toAdd);
+        countEqual(toAdd);
+    }
+
+    /**
+     * Adds all the given items to the end of the list, firing a single
+     * change. None of the items may already exist in the list, and they must
+     * be unique among themselves; otherwise, nothing is added.
+     *
+     * @param toAdd the items to add.
+     */
+    public void addAll(Collection<? extends T> toAdd) {
+        requireNonNull(toAdd);
+        CollectionUtil.requireAllNonNull(toAdd.toArray());
+        final Set<String> ids = new HashSet<>();
+        for (T item : toAdd) {
+            if (contains(item) || !ids.add(item.getId())) {
+                throw new DuplicateItemException(item.getClass());
+            }
+        }
+        for (T item : toAdd) {
+            internalMap.put(item.getId(), item);
+            occupyNextSlot(item);
+            countEqual(item);
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Returns the position of the item with the given ID in the list, or
+     * {@code -1} if there is no such item, in O(log n) time.
+     *
+     * @param id the ID of the item.
+     * @return the position of the item with the given ID.
+     */
+    public int indexOf(String id) {
+        requireNonNull(id);
+        final Integer slot = slots.get(id);
+        return slot == null ? -1 : slotCounter.countBefore(slot);
+    }
+
+    /**
+     * Returns the slot of the item with the given ID, or {@code -1} if there
+     * is no such item. The slots are in the same order as the list, and an
+     * item keeps its slot while other items are added and removed, until
+     * the {@link #getSlotGeneration() slot generation} changes.
+     *
+     * @param id the ID of the item.
+     * @return the slot of the item with the given ID.
+     */
+    public int slotOf(String id) {
+        requireNonNull(id);
+        final Integer slot = slots.get(id);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the item in the given slot, or null if the slot is free.
+     *
+     * @param slot the slot.
+     * @return the item in the slot.
+     */
+    public T getInSlot(int slot) {
+        return slot < itemInSlot.size() ? itemInSlot.get(slot) : null;
+    }
+
+    /**
+     * Returns the slots that hold an item.
+     *
+     * @return the occupied slots, which may be modified.
+     */
+    public BitSet getOccupiedSlots() {
+        return (BitSet) occupiedSlots.clone();
+    }
+
+    /**
+     * Returns the number of times that the items have been moved to other
+     * slots, which happens when the whole list is replaced, and when most of
+     * the slots are free after removals, so that they are reclaimed.
+     *
+     * @return the slot generation.
+     */
+    public int getSlotGeneration() {
+        return slotGeneration;
+    }
+
+    private void occupyNextSlot(T item) {
+        final int slot = itemInSlot.size();
+        slots.put(item.getId(), slot);
+        itemInSlot.add(item);
+        occupiedSlots.set(slot);
+        slotCounter.occupy(slot);
+    }
+
+    private void freeSlot(String id) {
+        final int slot = slots.remove(id);
+        itemInSlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        slotCounter.free(slot);
+    }
+
+    /**
+     * Moves the items to the slots with the same numbers as their positions
+     * in the list, which frees no slots before the last item.
+     */
+    private void renumberSlots() {
+        slots.clear();
+        itemInSlot.clear();
+        occupiedSlots.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            slots.put(internalList.get(i).getId(), i);
+        }
+        itemInSlot.addAll(internalList);
+        occupiedSlots.set(0, internalList.size());
+        slotCounter.reset(internalList.size());
+        slotGeneration++;
+    }
+
+    /**
+     * Renumbers the slots when more of them are free than occupied, so that
+     * the cost of doing so is spread over the removals that freed them.
+     */
+    private void reclaimFreeSlots() {
+        final int freeSlots = itemInSlot.size() - internalList.size();
+        if (freeSlots > Math.max(internalList.size(), MIN_FREE_SLOTS_RECLAIMED)) {
+            renumberSlots();
+        }
     }
 
     /**
@@ -130,7 +318,7 @@ public class UniqueList<T extends Item> implements Iterable<T> {
     public void setItem(T target, T editedItem) {
         CollectionUtil.requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target.getId());
 
         if (index == -1) {
             throw new ItemNotFoundException(target);
@@ -139,11 +327,34 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         if (!Item.isSame(target, editedItem) && contains(editedItem)) {
             throw new DuplicateItemException(editedItem.getClass());
         }
-        internalMap.remove(target.getId());
+        uncountEqual(internalMap.remove(target.getId()));
         internalMap.put(editedItem.getId(), editedItem);
+        countEqual(editedItem);
+        final int slot = slots.remove(target.getId());
+        slots.put(editedItem.getId(), slot);
+        itemInSlot.set(slot, editedItem);
         internalList.set(index, editedItem);
     }
 
+    /**
+     * Replaces the item in the list that has the same ID as {@code item}
+     * with {@code item}, so that the observers of this list are notified
+     * of the change. This is used when an item is modified in place.
+     *
+     * @param item the {@code T} that has been modified.
+     */
+    public void update(T item) {
+        requireNonNull(item);
+        final int index = indexOf(item.getId());
+        if (index == -1) {
+            throw new ItemNotFoundException(item);
+        }
+        uncountEqual(internalMap.put(item.getId(), item));
+        countEqual(item);
+        itemInSlot.set(slots.get(item.getId()), item);
+        internalList.set(index, item);
+    }
+
     /**
      * Removes the equivalent {@code T} from the list.
      * The {@code T} must exist in the list.
@@ -158,11 +369,72 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      */
     public void remove(String id) {
         requireNonNull(id);
-        if (!internalList.removeIf((val) -> val.getId().equals(id))) {
+        final int index = indexOf(id);
+        if (index == -1) {
             throw new ItemNotFoundException(id);
-        } else {
-            internalMap.remove(id);
         }
+        uncountEqual(internalMap.remove(id));
+        freeSlot(id);
+        internalList.remove(index);
+        reclaimFreeSlots();
+    }
+
+    /**
+     * Removes the items with the given IDs from the list, firing a single
+     * change. All the items must exist in the list; otherwise, nothing is
+     * removed.
+     *
+     * @param ids the IDs of the items to remove.
+     */
+    public void removeAll(Collection<String> ids) {
+        requireNonNull(ids);
+        CollectionUtil.requireAllNonNull(ids.toArray());
+        // the items are matched by identity, as they may be equal to others.
+        final Set<T> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String id : ids) {
+            final T item = internalMap.get(id);
+            if (item == null) {
+                throw new ItemNotFoundException(id);
+            }
+            toRemove.add(item);
+        }
+        if (toRemove.isEmpty()) {
+            return;
+        }
+        for (T item : toRemove) {
+            uncountEqual(internalMap.remove(item.getId()));
+            freeSlot(item.getId());
+        }
+        internalList.removeAll(toRemove);
+        reclaimFreeSlots();
+    }
+
+    /**
+     * Replaces each item in the list with the given item that has the same
+     * ID, firing a single change that only replaces their positions. All the
+     * items must exist in the list; otherwise, nothing is replaced.
+     *
+     * @param editedItems the items to replace those with the same IDs.
+     */
+    public void replaceAll(Collection<? extends T> editedItems) {
+        requireNonNull(editedItems);
+        CollectionUtil.requireAllNonNull(editedItems.toArray());
+        for (T item : editedItems) {
+            if (!contains(item.getId())) {
+                throw new ItemNotFoundException(item);
+            }
+        }
+        if (editedItems.isEmpty()) {
+            return;
+        }
+        final SortedMap<Integer, T> replacements = new TreeMap<>();
+        for (T item : editedItems) {
+            replacements.put(indexOf(item.getId()), item);
+            itemInSlot.set(slots.get(item.getId()), item);
+            uncountEqual(internalMap.put(item.getId(), item));
+            countEqual(item);
+        }
+        internalList.setAll(replacements);
     }
 
     /**
@@ -178,6 +450,9 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         internalList.setAll(replacement);
         internalMap.clear();
         internalList.forEach((item) -> internalMap.put(item.getId(), item));
+        equalCounts.clear();
+        internalList.forEach(this::countEqual);
+        renumberSlots();
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -51,15 +52,54 @@ public class Link<K, T extends Item,
     private final Map<K, Integer> shape;
 
     /**
-     * The contents that this link contains.
+     * The contents that this link contains. The ids of each key are kept in
+     * a hashed set in the order they are kept in, so that checking for and
+     * deleting an id does not scan all the ids of the key.
      */
-    private final Map<K, Deque<String>> contents;
+    private final Map<K, LinkedIdSet> contents;
 
     /**
      * The resolver that's used to resolve the links.
      */
     private final Lazy<M> managerLazy;
 
+    /**
+     * The listeners that are notified of the ids put into or removed from
+     * this link.
+     */
+    private final List<LinkListener<? super K>> listeners = new ArrayList<>();
+
+    /**
+     * The changes that have not been delivered to the listeners yet, as the
+     * batch they are made in has not ended.
+     */
+    private final List<LinkChange<K>> pendingChanges = new ArrayList<>();
+
+    /**
+     * The number of batches that are running, which are nested in one
+     * another.
+     */
+    private int batchDepth;
+
+    /**
+     * The items that the ids of each key resolved to when they were last
+     * resolved. The entry of a key is dropped when its ids change, and all
+     * the entries are dropped when the manager has changed since they were
+     * resolved, i.e. when it has added, removed or replaced an item.
+     */
+    private final Map<K, List<Optional<T>>> resolved = new HashMap<>();
+
+    /**
+     * The manager that the cached items were resolved with.
+     */
+    private M resolvedManager;
+
+    /**
+     * The version of {@link #resolvedManager} when the cached items were
+     * resolved.
+     */
+    private long resolvedVersion;
+
     /**
      * Creates a link with the given shape.
      *
@@ -75,7 +115,7 @@ public class Link<K, T extends Item,
     ) throws LinkException {
         fitShapeOrThrow(shape, contents);
         this.shape = CollectionUtil.deepCopy(shape);
-        this.contents = CollectionUtil.deepCopyMapDq(contents);
+        this.contents = toIdSets(contents);
         this.managerLazy = managerLazy;
         fill(this.shape, this.contents);
     }
@@ -143,6 +183,20 @@ public class Link<K, T extends Item,
         }
     }
 
+    /**
+     * Copies the ids of each key in the given contents into an ordered set.
+     *
+     * @param contents the contents of the link.
+     * @return the ordered sets of ids of each key.
+     */
+    private static <K> Map<K, LinkedIdSet> toIdSets(Map<K, Deque<String>> contents) {
+        final Map<K, LinkedIdSet> result = new HashMap<>();
+        for (K key : contents.keySet()) {
+            result.put(key, new LinkedIdSet(contents.get(key)));
+        }
+        return result;
+    }
+
     /**
      * Fills the contents with keys in the shape. If a key is in shape, but it
      * is not in contents, then we put key into contents with a new empty array.
@@ -152,13 +206,13 @@ public class Link<K, T extends Item,
      */
     private static <K> void fill(
             Map<K, Integer> shape,
-            Map<K, Deque<String>> contents
+            Map<K, LinkedIdSet> contents
     ) {
         for (K key : shape.keySet()) {
             if (contents.containsKey(key)) {
                 continue;
             }
-            contents.put(key, new ArrayDeque<>());
+            contents.put(key, new LinkedIdSet());
         }
     }
 
@@ -177,7 +231,11 @@ public class Link<K, T extends Item,
      * @return the copy of this link content.
      */
     public Map<K, Deque<String>> getCopiedContents() {
-        return CollectionUtil.deepCopyMapDq(contents);
+        final Map<K, Deque<String>> result = new HashMap<>();
+        for (K key : contents.keySet()) {
+            result.put(key, new ArrayDeque<>(contents.get(key)));
+        }
+        return result;
     }
 
     /**
@@ -198,6 +256,90 @@ public class Link<K, T extends Item,
         return Collections.unmodifiableMap(this.shape);
     }
 
+    /**
+     * An operation on a link, whose changes are delivered to the listeners
+     * of the link together.
+     *
+     * @param <E> the type of the exception thrown by the operation.
+     */
+    @FunctionalInterface
+    public interface Operation<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Adds a listener that is notified of every id put into or removed from
+     * this link from now on.
+     *
+     * @param listener the listener to be added.
+     */
+    public void addListener(LinkListener<? super K> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that has been added to this link.
+     *
+     * @param listener the listener to be removed.
+     */
+    public void removeListener(LinkListener<? super K> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Runs the given operation, and delivers all the changes it makes to
+     * this link to the listeners at once when it ends, even if it throws.
+     * If this is called during another batch, the changes are delivered
+     * when the outermost batch ends.
+     *
+     * @param operation the operation that changes this link.
+     * @param <E>       the type of the exception thrown by the operation.
+     * @throws E if the operation throws.
+     */
+    public <E extends Exception> void batch(Operation<E> operation) throws E {
+        requireNonNull(operation);
+        beginBatch();
+        try {
+            operation.run();
+        } finally {
+            endBatch();
+        }
+    }
+
+    private void beginBatch() {
+        batchDepth++;
+    }
+
+    private void endBatch() {
+        batchDepth--;
+        if (batchDepth == 0) {
+            deliverChanges();
+        }
+    }
+
+    private void fireChanged(K key, String id, boolean isAdded) {
+        resolved.remove(key);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        pendingChanges.add(new LinkChange<>(key, id, isAdded));
+        if (batchDepth == 0) {
+            deliverChanges();
+        }
+    }
+
+    private void deliverChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        final List<LinkChange<K>> changes = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        for (LinkListener<? super K> listener : List.copyOf(listeners)) {
+            listener.onChanged(changes);
+        }
+    }
+
     /**
      * Gets the remaining size, i.e. how many more values, can be hold by the
      * key.
@@ -261,14 +403,12 @@ public class Link<K, T extends Item,
             K key,
             String id
     ) throws LinkDuplicateException {
-        for (String cid : contents.get(key)) {
-            if (id.equals(cid)) {
-                throw new LinkDuplicateException(String.format(
-                        "A duplicate for %s has already been found.\n"
-                                + "Please try to link something else, or unlink the previous link first.",
-                        key
-                ));
-            }
+        if (contents.get(key).contains(id)) {
+            throw new LinkDuplicateException(String.format(
+                    "A duplicate for %s has already been found.\n"
+                            + "Please try to link something else, or unlink the previous link first.",
+                    key
+            ));
         }
     }
 
@@ -293,7 +433,8 @@ public class Link<K, T extends Item,
         keyValidOrThrow(key);
         canPutOrThrow(key);
         noDuplicateOrThrow(key, id);
-        this.contents.get(key).push(id);
+        this.contents.get(key).addFirst(id);
+        fireChanged(key, id, true);
     }
 
     /**
@@ -327,12 +468,19 @@ public class Link<K, T extends Item,
         canPutOrThrow(key, 0);
         noDuplicateOrThrow(key, id);
         int remainingSize = getRemainingSizeOfKey(key);
-        Deque<String> ids = this.contents.get(key);
-        if (remainingSize == 0) {
-            ids.pop();
-            ids.add(id);
-        } else {
-            ids.add(id);
+        final LinkedIdSet ids = this.contents.get(key);
+        beginBatch();
+        try {
+            if (remainingSize == 0) {
+                final String popped = ids.removeFirst();
+                ids.addLast(id);
+                fireChanged(key, popped, false);
+            } else {
+                ids.addLast(id);
+            }
+            fireChanged(key, id, true);
+        } finally {
+            endBatch();
         }
     }
 
@@ -343,15 +491,39 @@ public class Link<K, T extends Item,
      */
     public void clear(K key) throws LinkException {
         keyValidOrThrow(key);
-        contents.get(key).clear();
+        clearKey(key);
     }
 
     /**
      * Clears all the contents.
      */
     public void clear() {
-        for (K key : contents.keySet()) {
-            contents.get(key).clear();
+        beginBatch();
+        try {
+            for (K key : contents.keySet()) {
+                clearKey(key);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    private void clearKey(K key) {
+        final LinkedIdSet ids = contents.get(key);
+        if (listeners.isEmpty()) {
+            ids.clear();
+            resolved.remove(key);
+            return;
+        }
+        final List<String> removed = new ArrayList<>(ids);
+        ids.clear();
+        beginBatch();
+        try {
+            for (String id : removed) {
+                fireChanged(key, id, false);
+            }
+        } finally {
+            endBatch();
         }
     }
 
@@ -376,10 +548,34 @@ public class Link<K, T extends Item,
      */
     public void delete(K key, String id) throws LinkException {
         keyValidOrThrow(key);
-        if (!contents.get(key).contains(id)) {
+        if (!contents.get(key).remove(id)) {
             throw new LinkItemNotFoundException(key.toString(), id);
         }
-        contents.get(key).remove(id);
+        fireChanged(key, id, false);
+    }
+
+    /**
+     * Removes the given id from all the keys of this link, e.g. when the
+     * item with the id is deleted.
+     *
+     * @param id the id to be removed.
+     * @return the number of keys that the id was removed from.
+     */
+    public int removeAll(String id) {
+        requireNonNull(id);
+        int removedCount = 0;
+        beginBatch();
+        try {
+            for (Map.Entry<K, LinkedIdSet> entry : contents.entrySet()) {
+                if (entry.getValue().remove(id)) {
+                    fireChanged(entry.getKey(), id, false);
+                    removedCount++;
+                }
+            }
+        } finally {
+            endBatch();
+        }
+        return removedCount;
     }
 
     /**
@@ -391,10 +587,28 @@ public class Link<K, T extends Item,
      */
     public List<Optional<T>> get(K key) throws LinkException {
         keyValidOrThrow(key);
-        return contents.get(key)
-                       .stream()
-                       .map((id) -> managerLazy.get().getItemOptional(id))
-                       .collect(Collectors.toList());
+        return new ArrayList<>(resolve(key));
+    }
+
+    /**
+     * Resolves the ids of the key to the items in the manager, reusing the
+     * items resolved before if neither the ids nor the manager have changed
+     * since.
+     *
+     * @param key the key, which must be valid.
+     * @return the optionals of the items, in the order of the ids.
+     */
+    private List<Optional<T>> resolve(K key) {
+        final M manager = managerLazy.get();
+        if (manager != resolvedManager || manager.getVersion() != resolvedVersion) {
+            resolved.clear();
+            resolvedManager = manager;
+            resolvedVersion = manager.getVersion();
+        }
+        return resolved.computeIfAbsent(key, k -> contents.get(k)
+                .stream()
+                .map(manager::getItemOptional)
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     /**
@@ -409,32 +623,69 @@ public class Link<K, T extends Item,
     public List<T> getAndRemoveInvalid(K key) throws LinkException {
         keyValidOrThrow(key);
         final List<T> result = new ArrayList<>();
+        removeInvalid(key, result);
+        return result;
+    }
+
+    /**
+     * Removes the ids that no longer resolve to an item from all the keys of
+     * this link, e.g. the ids of items that have been deleted.
+     *
+     * @return the number of ids removed.
+     */
+    public int removeInvalid() {
+        int removedCount = 0;
+        beginBatch();
+        try {
+            for (K key : contents.keySet()) {
+                removedCount += removeInvalid(key, new ArrayList<>());
+            }
+        } finally {
+            endBatch();
+        }
+        return removedCount;
+    }
+
+    /**
+     * Removes the ids of the key that no longer resolve to an item.
+     *
+     * @param key   the key, which must be valid.
+     * @param valid the list that the valid items are added to.
+     * @return the number of ids removed.
+     */
+    private int removeInvalid(K key, List<T> valid) {
         final List<String> tbd = new ArrayList<>();
-        for (String id : contents.get(key)) {
-            final Optional<T> tmp = managerLazy.get().getItemOptional(id);
+        final Iterator<String> ids = contents.get(key).iterator();
+        for (Optional<T> tmp : resolve(key)) {
+            final String id = ids.next();
             if (tmp.isPresent()) {
-                result.add(tmp.get());
+                valid.add(tmp.get());
             } else {
                 tbd.add(id);
             }
         }
-        for (String id : tbd) {
-            contents.get(key).remove(id);
-            _logger.warning(String.format(
-                            DELETE_BROKEN_LINK_MESSAGE,
-                            id,
-                            this
-                    )
-            );
+        beginBatch();
+        try {
+            for (String id : tbd) {
+                contents.get(key).remove(id);
+                fireChanged(key, id, false);
+                _logger.warning(String.format(
+                                DELETE_BROKEN_LINK_MESSAGE,
+                                id,
+                                this
+                        )
+                );
+            }
+        } finally {
+            endBatch();
         }
-        return result;
+        return tbd.size();
     }
 
     public List<T> getValid(K key) throws LinkException {
         keyValidOrThrow(key);
         final List<T> result = new ArrayList<>();
-        for (String id : contents.get(key)) {
-            final Optional<T> tmp = managerLazy.get().getItemOptional(id);
+        for (Optional<T> tmp : resolve(key)) {
             tmp.ifPresent(result::add);
         }
         return result;
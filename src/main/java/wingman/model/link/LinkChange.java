@@ -0,0 +1,72 @@
+package wingman.model.link;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * An id that has been put into or removed from a key of a {@link Link}.
+ *
+ * @param <K> the type of the keys of the link.
+ */
+public final class LinkChange<K> {
+    private final K key;
+    private final String id;
+    private final boolean isAdded;
+
+    /**
+     * Creates a change to a link.
+     *
+     * @param key     the key under which the id is put or removed.
+     * @param id      the id that is put or removed.
+     * @param isAdded true if the id is put, false if it is removed.
+     */
+    public LinkChange(K key, String id, boolean isAdded) {
+        requireNonNull(key);
+        requireNonNull(id);
+        this.key = key;
+        this.id = id;
+        this.isAdded = isAdded;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if the id is put, false if it is removed.
+     *
+     * @return true if the id is put, false if it is removed.
+     */
+    public boolean isAdded() {
+        return isAdded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof LinkChange)) {
+            return false;
+        }
+        final LinkChange<?> change = (LinkChange<?>) other;
+        return key.equals(change.key)
+                && id.equals(change.id)
+                && isAdded == change.isAdded;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, id, isAdded);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s", isAdded ? "+" : "-", key, id);
+    }
+}
@@ -0,0 +1,24 @@
+package wingman.model.link;
+
+import java.util.List;
+
+/**
+ * Listens to the ids that are put into or removed from a {@link Link}.
+ * <p>
+ * The changes made by a single operation on the link, such as the id that
+ * a {@code putRevolve} replaces together with the id that replaces it, are
+ * delivered together. So are all the changes made in a
+ * {@link Link#batch batch}, for example by a command that links several
+ * items under different keys at once.
+ *
+ * @param <K> the type of the keys of the link.
+ */
+@FunctionalInterface
+public interface LinkListener<K> {
+    /**
+     * Called after ids have been put into or removed from the link.
+     *
+     * @param changes the changes, in the order they were made; never empty.
+     */
+    void onChanged(List<? extends LinkChange<? extends K>> changes);
+}
@@ -0,0 +1,196 @@
+package wingman.model.link;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of ids that remembers the order of its ids, and that can have ids
+ * added to and removed from both of its ends. Unlike a {@link java.util.Deque},
+ * checking if it contains an id and removing an id from the middle take
+ * constant time, as each id is hashed to its node in the order.
+ */
+class LinkedIdSet extends AbstractSet<String> {
+    /**
+     * A node in the doubly linked order of the ids.
+     */
+    private static class Node {
+        private final String id;
+        private Node prev;
+        private Node next;
+
+        private Node(String id) {
+            this.id = id;
+        }
+    }
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node head;
+    private Node tail;
+    private int modCount;
+
+    /**
+     * Creates an empty set.
+     */
+    LinkedIdSet() {
+    }
+
+    /**
+     * Creates a set with the given ids, in the order of the collection.
+     * Later duplicates of an id are ignored.
+     *
+     * @param ids the ids in the set.
+     */
+    LinkedIdSet(Collection<String> ids) {
+        ids.forEach(this::addLast);
+    }
+
+    /**
+     * Adds the id to the front of the set, if it is not in the set.
+     *
+     * @param id the id to be added.
+     * @return true if the id was not in the set.
+     */
+    boolean addFirst(String id) {
+        if (nodes.containsKey(id)) {
+            return false;
+        }
+        final Node node = new Node(id);
+        nodes.put(id, node);
+        node.next = head;
+        if (head == null) {
+            tail = node;
+        } else {
+            head.prev = node;
+        }
+        head = node;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds the id to the back of the set, if it is not in the set.
+     *
+     * @param id the id to be added.
+     * @return true if the id was not in the set.
+     */
+    boolean addLast(String id) {
+        if (nodes.containsKey(id)) {
+            return false;
+        }
+        final Node node = new Node(id);
+        nodes.put(id, node);
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the id at the front of the set.
+     *
+     * @return the id removed.
+     * @throws NoSuchElementException if the set is empty.
+     */
+    String removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        final String id = head.id;
+        remove(id);
+        return id;
+    }
+
+    @Override
+    public boolean add(String id) {
+        return addLast(id);
+    }
+
+    @Override
+    public boolean contains(Object id) {
+        return nodes.containsKey(id);
+    }
+
+    @Override
+    public boolean remove(Object id) {
+        final Node node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        head = null;
+        tail = null;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private Node next = head;
+            private Node lastReturned;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = next;
+                next = next.next;
+                return lastReturned.id;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                LinkedIdSet.this.remove(lastReturned.id);
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+        };
+    }
+}
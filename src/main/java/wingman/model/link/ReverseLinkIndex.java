@@ -0,0 +1,159 @@
+package wingman.model.link;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import wingman.model.item.Item;
+
+/**
+ * The index from the id of an item to the items whose links contain the id,
+ * i.e. the items that use it. The index listens to the links of the items
+ * that are tracked by it, so that it is kept up to date whenever an id is
+ * put into or removed from any of them.
+ * <p>
+ * Finding the items that use an item thus takes time proportional to the
+ * number of those items, instead of the number of all the items that have
+ * links. The index can also notify its owner whenever the links of a
+ * tracked item change, which are otherwise not observable, once for each
+ * batch of changes delivered by a link.
+ */
+public class ReverseLinkIndex {
+    /**
+     * The items that use each id, each with the number of times that its
+     * links contain the id. The owners are compared by identity, as
+     * different items may be equal, e.g. two flights with the same code.
+     */
+    private final Map<String, Map<Item, Integer>> referrers = new HashMap<>();
+
+    /**
+     * The listener registered on the links of each tracked item.
+     */
+    private final Map<Item, LinkListener<Object>> listeners = new IdentityHashMap<>();
+
+    /**
+     * The handler that is called with a tracked item after its links change.
+     */
+    private final Consumer<Item> linksChangedHandler;
+
+    /**
+     * Creates an empty index.
+     */
+    public ReverseLinkIndex() {
+        this(owner -> {});
+    }
+
+    /**
+     * Creates an empty index that calls the given handler with a tracked
+     * item whenever an id is put into or removed from its links.
+     *
+     * @param linksChangedHandler the handler of the changes to the links.
+     */
+    public ReverseLinkIndex(Consumer<Item> linksChangedHandler) {
+        requireNonNull(linksChangedHandler);
+        this.linksChangedHandler = linksChangedHandler;
+    }
+
+    /**
+     * Starts tracking the links of the given item: the ids they contain are
+     * indexed, and so are the ids put into them from now on.
+     *
+     * @param owner the item that owns the links.
+     * @param links the links of the item.
+     */
+    public void track(Item owner, Collection<? extends Link<?, ?, ?>> links) {
+        requireNonNull(owner);
+        if (listeners.containsKey(owner)) {
+            return;
+        }
+        final LinkListener<Object> listener = changes -> {
+            for (LinkChange<?> change : changes) {
+                if (change.isAdded()) {
+                    increment(change.getId(), owner);
+                } else {
+                    decrement(change.getId(), owner);
+                }
+            }
+            linksChangedHandler.accept(owner);
+        };
+        listeners.put(owner, listener);
+        for (Link<?, ?, ?> link : links) {
+            link.getUnmodifiableContents()
+                .values()
+                .forEach(ids -> ids.forEach(id -> increment(id, owner)));
+            link.addListener(listener);
+        }
+    }
+
+    /**
+     * Stops tracking the links of the given item, and removes the ids they
+     * contain from the index. Does nothing if the item is not tracked.
+     *
+     * @param owner the item that owns the links.
+     * @param links the links of the item.
+     */
+    public void untrack(Item owner, Collection<? extends Link<?, ?, ?>> links) {
+        final LinkListener<Object> listener = listeners.remove(owner);
+        if (listener == null) {
+            return;
+        }
+        for (Link<?, ?, ?> link : links) {
+            link.removeListener(listener);
+            link.getUnmodifiableContents()
+                .values()
+                .forEach(ids -> ids.forEach(id -> decrement(id, owner)));
+        }
+    }
+
+    private void increment(String id, Item owner) {
+        referrers.computeIfAbsent(id, k -> new IdentityHashMap<>())
+                 .merge(owner, 1, Integer::sum);
+    }
+
+    private void decrement(String id, Item owner) {
+        final Map<Item, Integer> owners = referrers.get(id);
+        if (owners == null) {
+            return;
+        }
+        owners.computeIfPresent(owner, (o, count) -> count == 1 ? null : count - 1);
+        if (owners.isEmpty()) {
+            referrers.remove(id);
+        }
+    }
+
+    /**
+     * Gets the items of the given class whose links contain the given id.
+     *
+     * @param id         the id of the item that is used.
+     * @param ownerClass the class of the items that use it.
+     * @param <O>        the type of the items that use it.
+     * @return the items that use the id.
+     */
+    public <O extends Item> List<O> getReferrers(String id, Class<O> ownerClass) {
+        final Map<Item, Integer> owners = referrers.getOrDefault(id, Collections.emptyMap());
+        final List<O> result = new ArrayList<>();
+        for (Item owner : owners.keySet()) {
+            if (ownerClass.isInstance(owner)) {
+                result.add(ownerClass.cast(owner));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of items whose links contain the given id.
+     *
+     * @param id the id of the item that is used.
+     * @return the number of items that use the id.
+     */
+    public int getReferrerCount(String id) {
+        return referrers.getOrDefault(id, Collections.emptyMap()).size();
+    }
+}
@@ -2,12 +2,14 @@ package wingman.model.location;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import wingman.commons.util.GetUtil;
 import wingman.model.Model;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.crew.Crew;
+import wingman.model.item.Attribute;
 import wingman.model.item.Item;
 import wingman.model.link.Link;
 import wingman.model.pilot.Pilot;
@@ -27,6 +29,11 @@ public class Location implements Item {
                     FlightLocationType.LOCATION_ARRIVAL, 1
             );
 
+    /**
+     * The attribute that the locations can be searched by.
+     */
+    public static final Attribute<Location, String> NAME = Attribute.of("name", Location::getName);
+
     private final Link<CrewLocationType, Crew, ReadOnlyItemManager<Crew>> crewLink;
     private final Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> pilotLink;
     private final Link<PlaneLocationType, Plane, ReadOnlyItemManager<Plane>> planeLink;
@@ -138,6 +145,15 @@ public class Location implements Item {
         return planeLink;
     }
 
+    /**
+     * Returns all the links of the location.
+     *
+     * @return the links to crew, pilots and planes.
+     */
+    public List<Link<?, ?, ?>> getLinks() {
+        return List.of(crewLink, pilotLink, planeLink);
+    }
+
     /**
      * Returns true if both locations have the same name.
      * This defines a weaker notion of equality between two locations.
@@ -156,4 +172,9 @@ public class Location implements Item {
 
         return other.getName().equals(getName());
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
 }
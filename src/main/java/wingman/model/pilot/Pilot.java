@@ -2,8 +2,10 @@ package wingman.model.pilot;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import wingman.model.item.Attribute;
 import wingman.model.item.Item;
 import wingman.model.location.PilotLocationType;
 
@@ -32,6 +34,15 @@ public class Pilot implements Item {
                     PilotLocationType.LOCATION_USING, 1000000
             );
 
+    /**
+     * The attributes that the pilots can be indexed and queried by.
+     */
+    public static final Attribute<Pilot, String> NAME = Attribute.of("name", Pilot::getName);
+    public static final Attribute<Pilot, PilotRank> RANK = Attribute.of("rank", Pilot::getRank);
+    public static final Attribute<Pilot, Gender> GENDER = Attribute.of("gender", Pilot::getGender);
+    public static final Attribute<Pilot, Integer> AGE = Attribute.of("age", Pilot::getAge);
+    public static final Attribute<Pilot, Integer> FLIGHT_HOUR = Attribute.of("flight hour", Pilot::getFlightHour);
+
     private static final String GENDER_STRING = "Gender";
 
     private static final String AGE_STRING = "Age";
@@ -218,4 +229,9 @@ public class Pilot implements Item {
 
         return other.getName().equals(getName());
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
 }
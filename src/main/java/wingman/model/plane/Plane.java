@@ -2,8 +2,10 @@ package wingman.model.plane;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import wingman.model.item.Attribute;
 import wingman.model.item.Item;
 import wingman.model.location.PlaneLocationType;
 
@@ -25,6 +27,12 @@ public class Plane implements Item {
     public static final Map<PlaneLocationType, Integer> SHAPE_FOR_LOCATION =
             Map.of(PlaneLocationType.LOCATION_USING, 1000000);
 
+    /**
+     * The attributes that the planes can be indexed and queried by.
+     */
+    public static final Attribute<Plane, String> MODEL = Attribute.of("model", Plane::getModel);
+    public static final Attribute<Plane, Integer> AGE = Attribute.of("age", Plane::getAge);
+
     private static final String AGE_STRING = "Age";
     private static final String AVAILABILITY_STRING = "Status";
     private final String id;
@@ -147,4 +155,9 @@ public class Plane implements Item {
 
         return ((other.getModel().equals(this.getModel())) && (other.getAge() == this.getAge()));
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(model, age);
+    }
 }
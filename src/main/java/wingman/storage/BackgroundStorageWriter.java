@@ -0,0 +1,164 @@
+package wingman.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+
+/**
+ * Performs the saves submitted to it on a single background thread, so that
+ * the thread that submits them does not have to wait for the disk.
+ * <p>
+ * The saves are coalesced per file: if a file is saved again before the
+ * previous save to it has been performed, only the latest one is performed.
+ * A burst of commands thus results in at most one write per file. The saves
+ * that fail are reported to the failure handler, on the background thread,
+ * and are kept to be performed again with the next save that is submitted,
+ * unless that save replaces them.
+ */
+public class BackgroundStorageWriter {
+    private static final Logger logger = LogsCenter.getLogger(BackgroundStorageWriter.class);
+
+    /**
+     * The handler to which the failed saves are reported, together with the
+     * file they were meant for.
+     */
+    private final BiConsumer<Path, IOException> failureHandler;
+
+    /**
+     * The executor on which the saves are performed.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The latest save for each file that has not been performed yet. Guarded
+     * by {@code this}.
+     */
+    private final Map<Path, SaveTask> pendingSaves = new LinkedHashMap<>();
+
+    /**
+     * The latest save for each file that has failed, and has not been
+     * replaced by a later save to the file yet. Guarded by {@code this}.
+     */
+    private final Map<Path, SaveTask> failedSaves = new LinkedHashMap<>();
+
+    /**
+     * Whether a drain of the pending saves has been queued on the executor
+     * but has not started yet. Guarded by {@code this}.
+     */
+    private boolean isDrainQueued;
+
+    /**
+     * Creates a new {@code BackgroundStorageWriter}.
+     *
+     * @param failureHandler the handler to which the failed saves are
+     *                       reported.
+     */
+    public BackgroundStorageWriter(BiConsumer<Path, IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Submits a save to the given file, replacing the save to the same file
+     * that is still pending or has failed, if any. The other saves that have
+     * failed are performed again along with it.
+     *
+     * @param filePath the file that is saved.
+     * @param task     the save to be performed.
+     */
+    public synchronized void submit(Path filePath, SaveTask task) {
+        requireNonNull(filePath);
+        requireNonNull(task);
+        failedSaves.remove(filePath);
+        pendingSaves.put(filePath, task);
+        retryFailedSaves();
+        queueDrain();
+    }
+
+    /**
+     * Moves the saves that have failed back to the pending saves.
+     */
+    private synchronized void retryFailedSaves() {
+        failedSaves.forEach(pendingSaves::putIfAbsent);
+        failedSaves.clear();
+    }
+
+    private synchronized void queueDrain() {
+        if (!isDrainQueued && !pendingSaves.isEmpty()) {
+            isDrainQueued = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        final List<Map.Entry<Path, SaveTask>> saves;
+        synchronized (this) {
+            isDrainQueued = false;
+            saves = new ArrayList<>(pendingSaves.entrySet());
+            pendingSaves.clear();
+        }
+        for (Map.Entry<Path, SaveTask> save : saves) {
+            try {
+                save.getValue().run();
+            } catch (IOException e) {
+                logger.warning("Failed to save " + save.getKey() + ": " + e);
+                keepFailedSave(save.getKey(), save.getValue());
+                failureHandler.accept(save.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Keeps the given save that has failed, unless a later save to the same
+     * file has been submitted in the meantime.
+     */
+    private synchronized void keepFailedSave(Path filePath, SaveTask task) {
+        if (!pendingSaves.containsKey(filePath)) {
+            failedSaves.put(filePath, task);
+        }
+    }
+
+    /**
+     * Waits until all the saves submitted so far have been performed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> null).get();
+        } catch (ExecutionException e) {
+            // the barrier itself does nothing, so this cannot happen.
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Performs all the saves submitted so far, tries the saves that have
+     * failed once more, and stops the background thread. No saves should be
+     * submitted afterwards.
+     */
+    public void close() {
+        synchronized (this) {
+            retryFailedSaves();
+            queueDrain();
+        }
+        flush();
+        executor.shutdown();
+    }
+}
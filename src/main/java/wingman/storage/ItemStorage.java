@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.item.Item;
 
@@ -53,4 +54,29 @@ public interface ItemStorage<T extends Item> {
      */
     void save(ReadOnlyItemManager<T> itemManager, Path filePath)
             throws IOException;
+
+    /**
+     * Prepares a save of the given {@link ReadOnlyItemManager} to the given
+     * file, which can later be performed on another thread. The state of the
+     * manager is captured when this method is called.
+     *
+     * @param itemManager cannot be null.
+     * @param filePath    cannot be null.
+     * @return the prepared save.
+     * @throws IOException if there was any problem preparing the save.
+     */
+    default SaveTask prepareSave(ReadOnlyItemManager<T> itemManager, Path filePath)
+            throws IOException {
+        final ItemManager<T> copy = new ItemManager<>(itemManager);
+        return () -> save(copy, filePath);
+    }
+
+    /**
+     * Writes out anything this storage still holds in memory, and releases
+     * the resources it holds. The storage should not be used afterwards.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void close() throws IOException {
+    }
 }
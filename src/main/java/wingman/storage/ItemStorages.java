@@ -0,0 +1,98 @@
+package wingman.storage;
+
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.model.ReadOnlyUserPrefs;
+import wingman.model.StorageMode;
+import wingman.model.crew.Crew;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.location.Location;
+import wingman.model.pilot.Pilot;
+import wingman.model.plane.Plane;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.storage.BinaryCrewManagerStorage;
+import wingman.storage.binary.storage.BinaryFlightManagerStorage;
+import wingman.storage.binary.storage.BinaryLocationManagerStorage;
+import wingman.storage.binary.storage.BinaryPilotManagerStorage;
+import wingman.storage.binary.storage.BinaryPlaneManagerStorage;
+import wingman.storage.json.JsonAdaptedModel;
+import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemStorage;
+import wingman.storage.json.JsonJournalItemStorage;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+import wingman.storage.json.storage.JsonLocationManagerStorage;
+import wingman.storage.json.storage.JsonPilotManagerStorage;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+/**
+ * Creates the storage of each item manager, in the {@link StorageMode} and
+ * at the data file paths given by the user prefs.
+ */
+public final class ItemStorages {
+    private static final Logger logger = LogsCenter.getLogger(ItemStorages.class);
+
+    private ItemStorages() {
+    }
+
+    public static ItemStorage<Pilot> createPilotStorage(ReadOnlyUserPrefs userPrefs) {
+        return create(userPrefs.getStorageMode(), userPrefs.getPilotManagerFilePath(),
+                JsonPilotManagerStorage::new, BinaryPilotManagerStorage::new);
+    }
+
+    public static ItemStorage<Location> createLocationStorage(ReadOnlyUserPrefs userPrefs) {
+        return create(userPrefs.getStorageMode(), userPrefs.getLocationManagerFilePath(),
+                JsonLocationManagerStorage::new, BinaryLocationManagerStorage::new);
+    }
+
+    public static ItemStorage<Crew> createCrewStorage(ReadOnlyUserPrefs userPrefs) {
+        return create(userPrefs.getStorageMode(), userPrefs.getCrewManagerFilePath(),
+                JsonCrewManagerStorage::new, BinaryCrewManagerStorage::new);
+    }
+
+    public static ItemStorage<Plane> createPlaneStorage(ReadOnlyUserPrefs userPrefs) {
+        return create(userPrefs.getStorageMode(), userPrefs.getPlaneManagerFilePath(),
+                JsonPlaneManagerStorage::new, BinaryPlaneManagerStorage::new);
+    }
+
+    public static ItemStorage<Flight> createFlightStorage(ReadOnlyUserPrefs userPrefs) {
+        return create(userPrefs.getStorageMode(), userPrefs.getFlightManagerFilePath(),
+                JsonFlightManagerStorage::new, BinaryFlightManagerStorage::new);
+    }
+
+    /**
+     * Creates the storage for the given data file in the given storage mode.
+     *
+     * @param mode          the storage mode chosen by the user.
+     * @param filePath      the path to the JSON data file.
+     * @param jsonStorage   creates the storage that writes the whole JSON
+     *                      data file.
+     * @param binaryStorage creates the storage that writes the binary data
+     *                      file.
+     * @return the storage to be used for the items.
+     */
+    private static <T extends Item, F extends JsonAdaptedModel<T>, M extends JsonItemManager<T, F>>
+            ItemStorage<T> create(
+                    StorageMode mode,
+                    Path filePath,
+                    Function<Path, JsonItemStorage<T, F, M>> jsonStorage,
+                    Function<Path, BinaryItemStorage<T>> binaryStorage
+            ) {
+        switch (mode) {
+        case JOURNAL:
+            logger.info("Using journal for " + filePath);
+            return new JsonJournalItemStorage<>(jsonStorage.apply(filePath));
+        case BINARY:
+            final Path binaryPath = BinaryItemStorage.getBinaryPath(filePath);
+            logger.info("Using binary file " + binaryPath + " for " + filePath);
+            return binaryStorage.apply(binaryPath);
+        case JSON:
+        default:
+            return jsonStorage.apply(filePath);
+        }
+    }
+}
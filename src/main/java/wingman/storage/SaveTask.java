@@ -0,0 +1,18 @@
+package wingman.storage;
+
+import java.io.IOException;
+
+/**
+ * Represents a write to the storage that has been prepared, but not yet
+ * performed. Everything it needs from the model has been captured when it
+ * was prepared, so that it can be performed on another thread.
+ */
+@FunctionalInterface
+public interface SaveTask {
+    /**
+     * Performs the write.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void run() throws IOException;
+}
@@ -133,4 +133,43 @@ public interface Storage extends UserPrefsStorage {
      * @throws IOException when the file cannot be saved
      */
     void saveFlightManager(ReadOnlyItemManager<Flight> flightManager) throws IOException;
+
+    /**
+     * Saves the given managers in the storage mode of the given user prefs,
+     * and uses storages of that mode for the item managers from then on.
+     * The user prefs are saved as well, so that the new data files are read
+     * at the next start. The storages in use are kept if any of the managers
+     * or the user prefs cannot be saved.
+     *
+     * @param userPrefs       the user prefs that give the storage mode and the
+     *                        data file paths to be used.
+     * @param pilotManager    the pilot manager to be saved.
+     * @param locationManager the location manager to be saved.
+     * @param crewManager     the crew manager to be saved.
+     * @param planeManager    the plane manager to be saved.
+     * @param flightManager   the flight manager to be saved.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void convertItemStorages(
+            ReadOnlyUserPrefs userPrefs,
+            ReadOnlyItemManager<Pilot> pilotManager,
+            ReadOnlyItemManager<Location> locationManager,
+            ReadOnlyItemManager<Crew> crewManager,
+            ReadOnlyItemManager<Plane> planeManager,
+            ReadOnlyItemManager<Flight> flightManager
+    ) throws IOException;
+
+    /**
+     * Waits until all the saves made so far have been written to the disk.
+     * This returns right away if the saves are not made in the background.
+     */
+    void flush();
+
+    /**
+     * Writes out anything the storages still hold in memory, and releases
+     * the resources they hold. This should be called when the app stops.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void close() throws IOException;
 }
@@ -2,6 +2,7 @@ package wingman.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +13,7 @@ import wingman.model.ReadOnlyUserPrefs;
 import wingman.model.UserPrefs;
 import wingman.model.crew.Crew;
 import wingman.model.flight.Flight;
+import wingman.model.item.Item;
 import wingman.model.location.Location;
 import wingman.model.pilot.Pilot;
 import wingman.model.plane.Plane;
@@ -23,11 +25,17 @@ public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final UserPrefsStorage userPrefsStorage;
-    private final ItemStorage<Pilot> pilotStorage;
-    private final ItemStorage<Location> locationStorage;
-    private final ItemStorage<Crew> crewStorage;
-    private final ItemStorage<Plane> planeStorage;
-    private final ItemStorage<Flight> flightStorage;
+    private ItemStorage<Pilot> pilotStorage;
+    private ItemStorage<Location> locationStorage;
+    private ItemStorage<Crew> crewStorage;
+    private ItemStorage<Plane> planeStorage;
+    private ItemStorage<Flight> flightStorage;
+
+    /**
+     * The writer on which the item managers are saved, or {@code null} if
+     * they are saved on the calling thread.
+     */
+    private final BackgroundStorageWriter writer;
 
     /**
      * Creates a {@code StorageManager} with the given {@code UserPrefStorage} and {@code ItemStorages}.
@@ -38,12 +46,44 @@ public class StorageManager implements Storage {
                           ItemStorage<Crew> crewStorage,
                           ItemStorage<Plane> planeStorage,
                           ItemStorage<Flight> flightStorage) {
+        this(userPrefsStorage, pilotStorage, locationStorage, crewStorage,
+                planeStorage, flightStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code UserPrefStorage} and {@code ItemStorages}, which
+     * saves the item managers on the given {@code writer} so that saving does not block the calling thread.
+     * Failed saves are then reported to the writer's failure handler instead of being thrown.
+     */
+    public StorageManager(UserPrefsStorage userPrefsStorage,
+                          ItemStorage<Pilot> pilotStorage,
+                          ItemStorage<Location> locationStorage,
+                          ItemStorage<Crew> crewStorage,
+                          ItemStorage<Plane> planeStorage,
+                          ItemStorage<Flight> flightStorage,
+                          BackgroundStorageWriter writer) {
         this.userPrefsStorage = userPrefsStorage;
         this.pilotStorage = pilotStorage;
         this.locationStorage = locationStorage;
         this.crewStorage = crewStorage;
         this.planeStorage = planeStorage;
         this.flightStorage = flightStorage;
+        this.writer = writer;
+    }
+
+    /**
+     * Saves the given manager with the given storage, either right away or on the background writer.
+     */
+    private <T extends Item> void save(
+            ItemStorage<T> storage,
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) throws IOException {
+        if (writer == null) {
+            storage.save(itemManager, filePath);
+            return;
+        }
+        writer.submit(filePath, storage.prepareSave(itemManager, filePath));
     }
 
 
@@ -106,7 +146,7 @@ public class StorageManager implements Storage {
      */
     public void savePilotManager(ReadOnlyItemManager<Pilot> pilotManager, Path filePath) throws IOException {
         logger.fine("Attempting to saving pilots to data file: " + filePath);
-        pilotStorage.save(pilotManager, filePath);
+        save(pilotStorage, pilotManager, filePath);
     }
 
 
@@ -152,7 +192,7 @@ public class StorageManager implements Storage {
     public void saveLocationManager(ReadOnlyItemManager<Location> locationManager, Path filePath)
             throws IOException {
         logger.fine("Attempting to saving locations to data file: " + filePath);
-        locationStorage.save(locationManager, filePath);
+        save(locationStorage, locationManager, filePath);
     }
 
 
@@ -197,7 +237,7 @@ public class StorageManager implements Storage {
      */
     public void saveCrewManager(ReadOnlyItemManager<Crew> crewManager, Path filePath) throws IOException {
         logger.fine("Attempting to saving crews to data file: " + filePath);
-        crewStorage.save(crewManager, filePath);
+        save(crewStorage, crewManager, filePath);
     }
 
 
@@ -242,7 +282,7 @@ public class StorageManager implements Storage {
      */
     public void savePlaneManager(ReadOnlyItemManager<Plane> planeManager, Path filePath) throws IOException {
         logger.fine("Attempting to saving pilots to data file: " + filePath);
-        planeStorage.save(planeManager, filePath);
+        save(planeStorage, planeManager, filePath);
     }
 
 
@@ -287,6 +327,93 @@ public class StorageManager implements Storage {
      */
     public void saveFlightManager(ReadOnlyItemManager<Flight> flightManager, Path filePath) throws IOException {
         logger.fine("Attempting to saving flights to data file: " + filePath);
-        flightStorage.save(flightManager, filePath);
+        save(flightStorage, flightManager, filePath);
+    }
+
+    @Override
+    public void convertItemStorages(
+            ReadOnlyUserPrefs userPrefs,
+            ReadOnlyItemManager<Pilot> pilotManager,
+            ReadOnlyItemManager<Location> locationManager,
+            ReadOnlyItemManager<Crew> crewManager,
+            ReadOnlyItemManager<Plane> planeManager,
+            ReadOnlyItemManager<Flight> flightManager
+    ) throws IOException {
+        final ItemStorage<Pilot> newPilotStorage = ItemStorages.createPilotStorage(userPrefs);
+        final ItemStorage<Location> newLocationStorage = ItemStorages.createLocationStorage(userPrefs);
+        final ItemStorage<Crew> newCrewStorage = ItemStorages.createCrewStorage(userPrefs);
+        final ItemStorage<Plane> newPlaneStorage = ItemStorages.createPlaneStorage(userPrefs);
+        final ItemStorage<Flight> newFlightStorage = ItemStorages.createFlightStorage(userPrefs);
+        logger.info("Converting the data files to " + userPrefs.getStorageMode());
+        // the new storages are written on this thread, so that a failure
+        // keeps the storages in use.
+        newPilotStorage.save(pilotManager);
+        newLocationStorage.save(locationManager);
+        newCrewStorage.save(crewManager);
+        newPlaneStorage.save(planeManager);
+        newFlightStorage.save(flightManager);
+        flush();
+        final List<ItemStorage<?>> newStorages = List.of(
+                newPilotStorage, newLocationStorage, newCrewStorage, newPlaneStorage, newFlightStorage);
+        // the new storage mode is saved before the new storages are used, so
+        // that the app reads the files that receive the changes from now on
+        // even if it is not stopped cleanly.
+        try {
+            saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            try {
+                closeItemStorages(newStorages);
+            } catch (IOException closeException) {
+                // the failures have been logged, and the storages in use are
+                // kept.
+            }
+            throw e;
+        }
+        final List<ItemStorage<?>> oldStorages = getItemStorages();
+        pilotStorage = newPilotStorage;
+        locationStorage = newLocationStorage;
+        crewStorage = newCrewStorage;
+        planeStorage = newPlaneStorage;
+        flightStorage = newFlightStorage;
+        try {
+            closeItemStorages(oldStorages);
+        } catch (IOException e) {
+            // the failures have been logged, and the data is in the new
+            // storages already.
+        }
+    }
+
+    private List<ItemStorage<?>> getItemStorages() {
+        return List.of(pilotStorage, locationStorage, crewStorage, planeStorage, flightStorage);
+    }
+
+    @Override
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        closeItemStorages(getItemStorages());
+    }
+
+    private static void closeItemStorages(List<ItemStorage<?>> storages) throws IOException {
+        IOException exception = null;
+        for (ItemStorage<?> storage : storages) {
+            try {
+                storage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close storage for " + storage.getPath() + ": " + e);
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
     }
 }
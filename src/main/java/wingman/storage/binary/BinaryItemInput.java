@@ -0,0 +1,115 @@
+package wingman.storage.binary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import wingman.commons.exceptions.IllegalValueException;
+
+/**
+ * Decodes the items in the items section of a binary data file, resolving
+ * the indices in it against the id table of the file.
+ * <p>
+ * A read past the end of the section throws a
+ * {@link BufferUnderflowException}, which the storage reports as a file
+ * that cannot be read.
+ */
+public class BinaryItemInput {
+    private static final String INVALID_INDEX_MESSAGE = "Invalid id index: %d";
+    private static final String INVALID_KEY_MESSAGE = "Invalid link key: %s";
+    private static final String INVALID_LENGTH_MESSAGE = "Invalid string length: %d";
+
+    private final ByteBuffer in;
+    private final String[] idTable;
+
+    BinaryItemInput(ByteBuffer in, String[] idTable) {
+        this.in = in;
+        this.idTable = idTable;
+    }
+
+    /**
+     * Reads a string that has been written by
+     * {@link BinaryItemOutput#writeString}, from the given buffer.
+     *
+     * @param in the buffer to read from.
+     * @return the string.
+     * @throws IllegalValueException if the length of the string is invalid.
+     */
+    static String readString(ByteBuffer in) throws IllegalValueException {
+        final int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalValueException(String.format(INVALID_LENGTH_MESSAGE, length));
+        }
+        if (!in.hasArray()) {
+            // a direct or read-only buffer cannot be decoded in place.
+            final byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        final String value = new String(in.array(), in.arrayOffset() + in.position(), length,
+                StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads an id, which is written as its index in the id table.
+     *
+     * @return the id.
+     * @throws IllegalValueException if the index is not in the id table.
+     */
+    public String readId() throws IllegalValueException {
+        final int index = in.getInt();
+        if (index < 0 || index >= idTable.length) {
+            throw new IllegalValueException(String.format(INVALID_INDEX_MESSAGE, index));
+        }
+        return idTable[index];
+    }
+
+    public String readString() throws IllegalValueException {
+        return readString(in);
+    }
+
+    public int readInt() {
+        return in.getInt();
+    }
+
+    public boolean readBoolean() {
+        return in.get() != 0;
+    }
+
+    /**
+     * Reads the contents of a link, in the form that the JSON adapted items
+     * take them.
+     *
+     * @param keyClass the class of the keys of the link.
+     * @param <K>      the type of the keys of the link.
+     * @return the contents of the link.
+     * @throws IllegalValueException if a key or an id of the link is invalid.
+     */
+    public <K extends Enum<K>> Map<K, Deque<String>> readLink(Class<K> keyClass)
+            throws IllegalValueException {
+        final int keyCount = in.getInt();
+        final Map<K, Deque<String>> contents = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            final String keyName = readId();
+            final K key;
+            try {
+                key = Enum.valueOf(keyClass, keyName);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(INVALID_KEY_MESSAGE, keyName));
+            }
+            final int idCount = in.getInt();
+            final Deque<String> ids = new ArrayDeque<>();
+            for (int j = 0; j < idCount; j++) {
+                ids.add(readId());
+            }
+            contents.put(key, ids);
+        }
+        return contents;
+    }
+}
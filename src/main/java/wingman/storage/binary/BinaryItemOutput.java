@@ -0,0 +1,114 @@
+package wingman.storage.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the items of a manager into the items section of a binary data
+ * file.
+ * <p>
+ * Ids, and the keys of links, are interned as they are written: each of
+ * them is added to the id table once, and only its index in the table is
+ * written into the items section.
+ */
+public class BinaryItemOutput {
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> idTable = new ArrayList<>();
+
+    /**
+     * Writes an id, as its index in the id table.
+     *
+     * @param id the id to be written.
+     * @throws IOException if the id cannot be written.
+     */
+    public void writeId(String id) throws IOException {
+        Integer index = indices.get(id);
+        if (index == null) {
+            index = idTable.size();
+            indices.put(id, index);
+            idTable.add(id);
+        }
+        out.writeInt(index);
+    }
+
+    /**
+     * Writes a string as it is.
+     *
+     * @param value the string to be written.
+     * @throws IOException if the string cannot be written.
+     */
+    public void writeString(String value) throws IOException {
+        writeString(out, value);
+    }
+
+    /**
+     * Writes a string to the given output, as its length in UTF-8 followed
+     * by its UTF-8 bytes.
+     *
+     * @param out   the output to write to.
+     * @param value the string to be written.
+     * @throws IOException if the string cannot be written.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+    }
+
+    /**
+     * Writes the contents of a link. The keys are written by their names,
+     * so that the file stays readable if the keys are reordered.
+     *
+     * @param contents the contents of the link.
+     * @param <K>      the type of the keys of the link.
+     * @throws IOException if the link cannot be written.
+     */
+    public <K extends Enum<K>> void writeLink(Map<K, ? extends Collection<String>> contents)
+            throws IOException {
+        out.writeInt(contents.size());
+        for (Map.Entry<K, ? extends Collection<String>> entry : contents.entrySet()) {
+            writeId(entry.getKey().name());
+            out.writeInt(entry.getValue().size());
+            for (String id : entry.getValue()) {
+                writeId(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids that have been written so far, in the order of their
+     * indices.
+     *
+     * @return the id table.
+     */
+    List<String> getIdTable() {
+        return Collections.unmodifiableList(idTable);
+    }
+
+    /**
+     * Returns the encoded items that have been written so far.
+     *
+     * @return the encoded items.
+     */
+    ByteArrayOutputStream getBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,351 @@
+package wingman.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.commons.util.FileUtil;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+import wingman.storage.ItemStorage;
+import wingman.storage.SaveTask;
+
+/**
+ * Represents the base class for the persistent storage of a
+ * {@link ReadOnlyItemManager} in a compact binary file, which is much
+ * faster to load than its JSON file. Extend this class to store a kind of
+ * item.
+ * <p>
+ * The file starts with a header, which holds a magic number, the version of
+ * the format and the name of the manager. The header is followed by
+ * sections, each of which is a tag and the length of its payload:
+ * <ul>
+ *     <li>the id table, which holds every id and link key of the manager
+ *     once, and</li>
+ *     <li>the items of the manager, which refer to the ids and link keys
+ *     by their indices in the id table.</li>
+ * </ul>
+ * Sections with unknown tags are skipped, so that newer versions of the
+ * format can add sections that older readers do not know of.
+ * <p>
+ * Like the JSON storage, a save replaces the file atomically and keeps the
+ * previous generation of the file as its backup, and the manager is read
+ * from an older generation of the file if the file cannot be read.
+ *
+ * @param <T> the type of the {@link Item} to be stored.
+ */
+public abstract class BinaryItemStorage<T extends Item> implements ItemStorage<T> {
+    /**
+     * The extension of binary data files.
+     */
+    public static final String BINARY_EXTENSION = ".bin";
+
+    /**
+     * The magic number that every binary data file starts with, which reads
+     * "WGMN".
+     */
+    static final int MAGIC = 0x57474D4E;
+
+    /**
+     * The version of the format that is written, which is the newest
+     * version that can be read.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    static final int ID_TABLE_SECTION = 1;
+    static final int ITEMS_SECTION = 2;
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String NOT_BINARY_FILE_MESSAGE = "Not a binary data file";
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "Unsupported format version: %d";
+    private static final String WRONG_MANAGER_MESSAGE = "Expected a %s manager, found a %s manager";
+    private static final String MISSING_SECTION_MESSAGE = "Missing %s section";
+    private static final String INVALID_LENGTH_MESSAGE = "Invalid length: %d";
+    private static final String DUPLICATE_ITEMS_MESSAGE = "Items list contains duplicate item(s).";
+    private static final String ILLEGAL_VALUE_MESSAGE = "Illegal value found in %s: %s";
+    private static final String RECOVERED_MESSAGE = "Could not read %s, recovered its data from %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryItemStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a new storage for the given file.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    protected BinaryItemStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file that sits next to the given
+     * JSON data file, e.g. {@code data/flightmanager.bin} for
+     * {@code data/flightmanager.json}.
+     *
+     * @param jsonFilePath the path to the JSON data file.
+     * @return the path to the binary data file.
+     */
+    public static Path getBinaryPath(Path jsonFilePath) {
+        final String fileName = jsonFilePath.getFileName().toString();
+        final String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_EXTENSION);
+    }
+
+    /**
+     * Gets the name of the manager, which is written into the header so that
+     * the file of one manager is not read as that of another.
+     *
+     * @return the name of the manager.
+     */
+    protected abstract String getManagerName();
+
+    /**
+     * Writes the fields and links of the given item.
+     *
+     * @param item the item to be written.
+     * @param out  the output to write to.
+     * @throws IOException if the item cannot be written.
+     */
+    protected abstract void writeItem(T item, BinaryItemOutput out) throws IOException;
+
+    /**
+     * Reads an item that has been written by {@link #writeItem}.
+     *
+     * @param in the input to read from.
+     * @return the item that has been read.
+     * @throws IllegalValueException if a field of the item is invalid.
+     */
+    protected abstract T readItem(BinaryItemInput in) throws IllegalValueException;
+
+    @Override
+    public Path getPath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read()
+            throws DataConversionException, IOException {
+        return read(filePath);
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        DataConversionException error = null;
+        try {
+            final Optional<ItemManager<T>> manager = readGeneration(filePath);
+            if (manager.isPresent()) {
+                return manager;
+            }
+        } catch (DataConversionException e) {
+            error = e;
+        }
+        // the generations that a save may leave behind, from the newest.
+        final List<Path> olderGenerations = List.of(
+                FileUtil.getTemporaryPath(filePath),
+                FileUtil.getBackupPath(filePath)
+        );
+        for (Path generation : olderGenerations) {
+            if (!FileUtil.isFileExists(generation)) {
+                continue;
+            }
+            try {
+                final Optional<ItemManager<T>> recovered = readGeneration(generation);
+                if (recovered.isPresent()) {
+                    logger.warning(String.format(RECOVERED_MESSAGE, filePath, generation));
+                    return recovered;
+                }
+            } catch (DataConversionException e) {
+                // try the next older generation.
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the whole file at once, and decodes it from memory.
+     */
+    private Optional<ItemManager<T>> readGeneration(Path filePath)
+            throws DataConversionException, IOException {
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(filePath);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(readManager(ByteBuffer.wrap(bytes)));
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.warning(String.format(ILLEGAL_VALUE_MESSAGE, filePath, ive.getMessage()));
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private ItemManager<T> readManager(ByteBuffer in) throws IllegalValueException {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalValueException(NOT_BINARY_FILE_MESSAGE);
+        }
+        final int version = in.getInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(UNSUPPORTED_VERSION_MESSAGE, version));
+        }
+        final String managerName = BinaryItemInput.readString(in);
+        if (!managerName.equals(getManagerName())) {
+            throw new IllegalValueException(String.format(
+                    WRONG_MANAGER_MESSAGE, getManagerName(), managerName));
+        }
+        String[] idTable = null;
+        ItemManager<T> manager = null;
+        while (in.hasRemaining()) {
+            final int tag = in.get();
+            final int length = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new IllegalValueException(String.format(INVALID_LENGTH_MESSAGE, length));
+            }
+            final ByteBuffer section = in.slice();
+            section.limit(length);
+            in.position(in.position() + length);
+            switch (tag) {
+            case ID_TABLE_SECTION:
+                idTable = readIdTable(section);
+                break;
+            case ITEMS_SECTION:
+                if (idTable == null) {
+                    throw new IllegalValueException(String.format(MISSING_SECTION_MESSAGE, "id table"));
+                }
+                manager = readItems(new BinaryItemInput(section, idTable), section);
+                break;
+            default:
+                // a section of a newer version of the format, which is skipped.
+                break;
+            }
+        }
+        if (manager == null) {
+            throw new IllegalValueException(String.format(MISSING_SECTION_MESSAGE, "items"));
+        }
+        return manager;
+    }
+
+    private static String[] readIdTable(ByteBuffer section) throws IllegalValueException {
+        final int idCount = section.getInt();
+        if (idCount < 0 || idCount > section.remaining()) {
+            throw new IllegalValueException(String.format(INVALID_LENGTH_MESSAGE, idCount));
+        }
+        final String[] idTable = new String[idCount];
+        for (int i = 0; i < idTable.length; i++) {
+            idTable[i] = BinaryItemInput.readString(section);
+        }
+        return idTable;
+    }
+
+    /**
+     * Reads the items, and adds them to a new manager at once. Duplicates are
+     * found by their ids, so that reading a large manager does not compare
+     * every item with every other item.
+     */
+    private ItemManager<T> readItems(BinaryItemInput in, ByteBuffer section)
+            throws IllegalValueException {
+        final int itemCount = section.getInt();
+        final List<T> items = new ArrayList<>();
+        final Set<String> ids = new HashSet<>();
+        for (int i = 0; i < itemCount; i++) {
+            final T item = readItem(in);
+            if (!ids.add(item.getId())) {
+                throw new IllegalValueException(DUPLICATE_ITEMS_MESSAGE + ": " + item);
+            }
+            items.add(item);
+        }
+        final ItemManager<T> manager = new ItemManager<>();
+        manager.addItems(items);
+        return manager;
+    }
+
+    @Override
+    public void save(ReadOnlyItemManager<T> itemManager) throws IOException {
+        save(itemManager, filePath);
+    }
+
+    @Override
+    public void save(ReadOnlyItemManager<T> itemManager, Path filePath) throws IOException {
+        prepareSave(itemManager, filePath).run();
+    }
+
+    /**
+     * Encodes the items right away, so that the task only has to write the
+     * encoded bytes to the file.
+     */
+    @Override
+    public SaveTask prepareSave(ReadOnlyItemManager<T> itemManager, Path filePath) {
+        requireAllNonNull(itemManager, filePath);
+        final BinaryItemOutput output = new BinaryItemOutput();
+        final List<T> items = itemManager.getItemList();
+        final byte[] itemsSection;
+        final byte[] idTableSection;
+        try {
+            output.writeInt(items.size());
+            for (T item : items) {
+                writeItem(item, output);
+            }
+            itemsSection = output.getBuffer().toByteArray();
+            idTableSection = encodeIdTable(output.getIdTable());
+        } catch (IOException e) {
+            // the items are encoded in memory, so this is not expected; it
+            // is reported when the task is run, like any failed write.
+            return () -> {
+                throw e;
+            };
+        }
+        return () -> FileUtil.writeAtomically(filePath, out -> {
+            final DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            BinaryItemOutput.writeString(data, getManagerName());
+            writeSection(data, ID_TABLE_SECTION, idTableSection);
+            writeSection(data, ITEMS_SECTION, itemsSection);
+            data.flush();
+        }, true);
+    }
+
+    private static byte[] encodeIdTable(List<String> idTable) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(idTable.size());
+        for (String id : idTable) {
+            BinaryItemOutput.writeString(out, id);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeSection(DataOutputStream out, int tag, byte[] payload) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+}
@@ -0,0 +1,43 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.crew.Crew;
+import wingman.storage.binary.BinaryItemInput;
+import wingman.storage.binary.BinaryItemOutput;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedCrew;
+
+/**
+ * Represents a binary storage for {@link Crew}s.
+ */
+public class BinaryCrewManagerStorage extends BinaryItemStorage<Crew> {
+    public BinaryCrewManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getManagerName() {
+        return "crew";
+    }
+
+    @Override
+    protected void writeItem(Crew crew, BinaryItemOutput out) throws IOException {
+        out.writeId(crew.getId());
+        out.writeString(crew.getName());
+        out.writeInt(crew.getRank().toIndex());
+        out.writeBoolean(crew.isAvailable());
+    }
+
+    @Override
+    protected Crew readItem(BinaryItemInput in) throws IllegalValueException {
+        return new JsonAdaptedCrew(
+                in.readId(),
+                in.readString(),
+                in.readInt(),
+                in.readBoolean()
+        ).toModelType();
+    }
+}
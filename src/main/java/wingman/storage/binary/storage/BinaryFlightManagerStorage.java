@@ -0,0 +1,51 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.crew.FlightCrewType;
+import wingman.model.flight.Flight;
+import wingman.model.location.FlightLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.plane.FlightPlaneType;
+import wingman.storage.binary.BinaryItemInput;
+import wingman.storage.binary.BinaryItemOutput;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedFlight;
+
+/**
+ * Represents a binary storage for {@link Flight}s.
+ */
+public class BinaryFlightManagerStorage extends BinaryItemStorage<Flight> {
+    public BinaryFlightManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getManagerName() {
+        return "flight";
+    }
+
+    @Override
+    protected void writeItem(Flight flight, BinaryItemOutput out) throws IOException {
+        out.writeId(flight.getId());
+        out.writeString(flight.getCode());
+        out.writeLink(flight.getPilotLink().getUnmodifiableContents());
+        out.writeLink(flight.getCrewLink().getUnmodifiableContents());
+        out.writeLink(flight.getPlaneLink().getUnmodifiableContents());
+        out.writeLink(flight.getLocationLink().getUnmodifiableContents());
+    }
+
+    @Override
+    protected Flight readItem(BinaryItemInput in) throws IllegalValueException {
+        return new JsonAdaptedFlight(
+                in.readId(),
+                in.readString(),
+                in.readLink(FlightPilotType.class),
+                in.readLink(FlightCrewType.class),
+                in.readLink(FlightPlaneType.class),
+                in.readLink(FlightLocationType.class)
+        ).toModelType();
+    }
+}
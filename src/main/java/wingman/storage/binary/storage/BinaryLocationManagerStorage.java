@@ -0,0 +1,48 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.location.CrewLocationType;
+import wingman.model.location.Location;
+import wingman.model.location.PilotLocationType;
+import wingman.model.location.PlaneLocationType;
+import wingman.storage.binary.BinaryItemInput;
+import wingman.storage.binary.BinaryItemOutput;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedLocation;
+
+/**
+ * Represents a binary storage for {@link Location}s.
+ */
+public class BinaryLocationManagerStorage extends BinaryItemStorage<Location> {
+    public BinaryLocationManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getManagerName() {
+        return "location";
+    }
+
+    @Override
+    protected void writeItem(Location location, BinaryItemOutput out) throws IOException {
+        out.writeId(location.getId());
+        out.writeString(location.getName());
+        out.writeLink(location.getCrewLink().getUnmodifiableContents());
+        out.writeLink(location.getPilotLink().getUnmodifiableContents());
+        out.writeLink(location.getPlaneLink().getUnmodifiableContents());
+    }
+
+    @Override
+    protected Location readItem(BinaryItemInput in) throws IllegalValueException {
+        return new JsonAdaptedLocation(
+                in.readId(),
+                in.readString(),
+                in.readLink(CrewLocationType.class),
+                in.readLink(PilotLocationType.class),
+                in.readLink(PlaneLocationType.class)
+        ).toModelType();
+    }
+}
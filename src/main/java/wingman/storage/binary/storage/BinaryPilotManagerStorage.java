@@ -0,0 +1,49 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.pilot.Pilot;
+import wingman.storage.binary.BinaryItemInput;
+import wingman.storage.binary.BinaryItemOutput;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedPilot;
+
+/**
+ * Represents a binary storage for {@link Pilot}s.
+ */
+public class BinaryPilotManagerStorage extends BinaryItemStorage<Pilot> {
+    public BinaryPilotManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getManagerName() {
+        return "pilot";
+    }
+
+    @Override
+    protected void writeItem(Pilot pilot, BinaryItemOutput out) throws IOException {
+        out.writeId(pilot.getId());
+        out.writeString(pilot.getName());
+        out.writeInt(pilot.getRank().toIndex());
+        out.writeInt(pilot.getAge());
+        out.writeInt(pilot.getGender().toIndex());
+        out.writeInt(pilot.getFlightHour());
+        out.writeBoolean(pilot.isAvailable());
+    }
+
+    @Override
+    protected Pilot readItem(BinaryItemInput in) throws IllegalValueException {
+        return new JsonAdaptedPilot(
+                in.readId(),
+                in.readString(),
+                in.readInt(),
+                in.readInt(),
+                in.readInt(),
+                in.readInt(),
+                in.readBoolean()
+        ).toModelType();
+    }
+}
@@ -0,0 +1,46 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.plane.Plane;
+import wingman.storage.binary.BinaryItemInput;
+import wingman.storage.binary.BinaryItemOutput;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedPlane;
+
+/**
+ * Represents a binary storage for {@link Plane}s.
+ */
+public class BinaryPlaneManagerStorage extends BinaryItemStorage<Plane> {
+    public BinaryPlaneManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getManagerName() {
+        return "plane";
+    }
+
+    @Override
+    protected void writeItem(Plane plane, BinaryItemOutput out) throws IOException {
+        out.writeId(plane.getId());
+        out.writeString(plane.getModel());
+        out.writeInt(plane.getAge());
+        out.writeBoolean(plane.isAvailable());
+    }
+
+    @Override
+    protected Plane readItem(BinaryItemInput in) throws IllegalValueException {
+        final Plane plane = new JsonAdaptedPlane(
+                in.readId(),
+                in.readString(),
+                in.readInt()
+        ).toModelType();
+        if (!in.readBoolean()) {
+            plane.setUnavailable();
+        }
+        return plane;
+    }
+}
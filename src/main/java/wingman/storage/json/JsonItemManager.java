@@ -22,6 +22,11 @@ public abstract class JsonItemManager<T extends Item, F extends JsonAdaptedModel
 
     public static final String MESSAGE_DUPLICATE_ITEMS = "Items list contains duplicate item(s).";
 
+    /**
+     * The name of the field that holds the items in the JSON file.
+     */
+    public static final String ITEMS_FIELD = "items";
+
     /**
      * The list of items to be stored.
      */
@@ -5,22 +5,37 @@ import static wingman.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import wingman.commons.core.LogsCenter;
 import wingman.commons.exceptions.DataConversionException;
 import wingman.commons.exceptions.IllegalValueException;
 import wingman.commons.util.FileHelper;
+import wingman.commons.util.FileUtil;
 import wingman.commons.util.JsonHelper;
+import wingman.model.ItemManager;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.item.Item;
 import wingman.storage.ItemStorage;
+import wingman.storage.SaveTask;
 
 /**
  * Represents the base class for the persistent storage of a
  * {@link ReadOnlyItemManager}. Extend this class to use the features
  * provided by this.
+ * <p>
+ * The items are read from and written to the file one at a time, so that
+ * only one {@link JsonAdaptedModel} of an item is held in memory at any time
+ * while the manager is read or saved.
+ * <p>
+ * A save replaces the file atomically and keeps the previous generation of
+ * the file as its backup. If the file is missing or cannot be read, e.g.
+ * because a save was interrupted, the manager is read from the newest
+ * generation of the file that can be read instead.
  *
  * @param <T> the type of the {@link Item} to be stored.
  * @param <F> the type of the {@link JsonAdaptedModel} to be stored.
@@ -33,6 +48,8 @@ public abstract class JsonItemStorage<T extends Item,
 
     private static final String ILLEGAL_VALUE_MESSAGE =
             "Illegal value found in %s: %s";
+    private static final String RECOVERED_MESSAGE =
+            "Could not read %s, recovered its data from %s";
 
     /**
      * The logger to be used by this class.
@@ -104,6 +121,36 @@ public abstract class JsonItemStorage<T extends Item,
      */
     protected abstract M createManager(ReadOnlyItemManager<T> modelManager);
 
+    /**
+     * Gets the class of the {@link JsonAdaptedModel} of an item, i.e. gets
+     * the class of the {@code F} type parameter.
+     *
+     * @return the class of the {@link JsonAdaptedModel} of an item.
+     */
+    protected abstract Class<F> getItemClass();
+
+    /**
+     * Creates a new {@link JsonAdaptedModel} from the given item.
+     *
+     * @param item the item to be converted.
+     * @return a new {@link JsonAdaptedModel} created from the given item.
+     */
+    protected abstract F createAdaptedItem(T item);
+
+    /**
+     * Creates the {@link JsonAdaptedModel} of each item in the given
+     * manager, which captures the state of the items at this point.
+     *
+     * @param itemManager the manager whose items are to be converted.
+     * @return the {@link JsonAdaptedModel} of each item, in order.
+     */
+    List<F> createAdaptedItems(ReadOnlyItemManager<T> itemManager) {
+        return itemManager.getItemList()
+                          .stream()
+                          .map(this::createAdaptedItem)
+                          .collect(Collectors.toList());
+    }
+
     @Override
     public Path getPath() {
         return filePath;
@@ -119,15 +166,54 @@ public abstract class JsonItemStorage<T extends Item,
     public Optional<? extends ReadOnlyItemManager<T>> read(Path filePath)
             throws DataConversionException, IOException {
         requireNonNull(filePath);
-        Optional<M> jsonManager = jsonHelper.readJsonFile(
-                filePath,
-                getManagerClass()
+        DataConversionException error = null;
+        try {
+            final Optional<ItemManager<T>> manager = readGeneration(filePath);
+            if (manager.isPresent()) {
+                return manager;
+            }
+        } catch (DataConversionException e) {
+            error = e;
+        }
+        // the generations that a save may leave behind, from the newest.
+        final List<Path> olderGenerations = List.of(
+                FileUtil.getTemporaryPath(filePath),
+                FileUtil.getBackupPath(filePath)
         );
-        if (jsonManager.isEmpty()) {
-            return Optional.empty();
+        for (Path generation : olderGenerations) {
+            if (!fileHelper.isFileExists(generation)) {
+                continue;
+            }
+            try {
+                final Optional<ItemManager<T>> recovered = readGeneration(generation);
+                if (recovered.isPresent()) {
+                    logger.warning(String.format(RECOVERED_MESSAGE, filePath, generation));
+                    return recovered;
+                }
+            } catch (DataConversionException e) {
+                // try the next older generation.
+            }
+        }
+        if (error != null) {
+            throw error;
         }
+        return Optional.empty();
+    }
+
+    private Optional<ItemManager<T>> readGeneration(Path filePath)
+            throws DataConversionException {
+        final ItemManager<T> manager = new ItemManager<>();
         try {
-            return Optional.of(jsonManager.get().toModelType());
+            final boolean isFound = jsonHelper.readJsonArrayFile(
+                    filePath,
+                    JsonItemManager.ITEMS_FIELD,
+                    getItemClass(),
+                    jsonItem -> addModelItem(manager, jsonItem)
+            );
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(manager);
         } catch (IllegalValueException ive) {
             logger.warning(String.format(
                     ILLEGAL_VALUE_MESSAGE,
@@ -138,6 +224,17 @@ public abstract class JsonItemStorage<T extends Item,
         }
     }
 
+    private void addModelItem(ItemManager<T> manager, F jsonItem)
+            throws IllegalValueException {
+        final T modelItem = jsonItem.toModelType();
+        if (manager.hasItem(modelItem)) {
+            throw new IllegalValueException(
+                    JsonItemManager.MESSAGE_DUPLICATE_ITEMS + ": " + modelItem
+            );
+        }
+        manager.addItem(modelItem);
+    }
+
     @Override
     public void save(ReadOnlyItemManager<T> itemManager)
             throws IOException {
@@ -151,6 +248,29 @@ public abstract class JsonItemStorage<T extends Item,
     ) throws IOException {
         requireAllNonNull(itemManager, filePath);
         fileHelper.createIfMissing(filePath);
-        jsonHelper.saveJsonFile(createManager(itemManager), filePath);
+        jsonHelper.saveJsonArrayFile(
+                filePath,
+                JsonItemManager.ITEMS_FIELD,
+                itemManager.getItemList(),
+                this::createAdaptedItem
+        );
+    }
+
+    @Override
+    public SaveTask prepareSave(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) {
+        requireAllNonNull(itemManager, filePath);
+        final List<F> jsonItems = createAdaptedItems(itemManager);
+        return () -> {
+            fileHelper.createIfMissing(filePath);
+            jsonHelper.saveJsonArrayFile(
+                    filePath,
+                    JsonItemManager.ITEMS_FIELD,
+                    jsonItems,
+                    Function.identity()
+            );
+        };
     }
 }
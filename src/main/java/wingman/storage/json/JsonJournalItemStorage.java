@@ -0,0 +1,590 @@
+package wingman.storage.json;
+
+import static java.util.Objects.requireNonNull;
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.commons.util.JsonHelper;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+import wingman.storage.ItemStorage;
+import wingman.storage.SaveTask;
+
+/**
+ * Represents a storage that appends every change made to a
+ * {@link ReadOnlyItemManager} to a journal, instead of rewriting the whole
+ * data file on every save. The data file written by the underlying
+ * {@link JsonItemStorage} serves as the snapshot on top of which the journal
+ * is replayed when reading.
+ * <p>
+ * A record is either {@code put <json>}, which adds or replaces an item, or
+ * {@code remove <id>}, which removes an item. Since both are idempotent, a
+ * journal that has already been compacted into the snapshot can safely be
+ * replayed again. Every {@code snapshotInterval} records, the journal is
+ * rotated and a new snapshot is written in the background.
+ * <p>
+ * Only the changes to the manager that was last saved are tracked, and the
+ * first save of a manager writes a full snapshot, so that the changes made
+ * before it was tracked are not lost.
+ * <p>
+ * The records of the changes made since the previous save are appended in
+ * a single write, and forced to the disk once, however many items a command
+ * has changed. When the save is prepared for a
+ * {@link wingman.storage.BackgroundStorageWriter}, only the records are
+ * created on the calling thread, and the write is left to the save.
+ *
+ * @param <T> the type of the {@link Item} to be stored.
+ * @param <F> the type of the {@link JsonAdaptedModel} to be stored.
+ * @param <M> the type of the {@link JsonItemManager} to be stored.
+ */
+public class JsonJournalItemStorage<T extends Item,
+                                           F extends JsonAdaptedModel<T>,
+                                           M extends JsonItemManager<T, F>>
+        implements ItemStorage<T> {
+
+    /**
+     * The default number of records after which the journal is compacted.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String COMPACTING_EXTENSION = ".old";
+    private static final String PUT_RECORD = "put";
+    private static final String REMOVE_RECORD = "remove";
+    private static final String RECORD_SEPARATOR = " ";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String ILLEGAL_RECORD_MESSAGE =
+            "Illegal journal record found in %s: %s";
+    private static final String INCOMPLETE_RECORD_MESSAGE =
+            "Ignoring incomplete journal record at the end of %s";
+    private static final String SNAPSHOT_FAILED_MESSAGE =
+            "Failed to write snapshot to %s: %s";
+
+    /**
+     * The logger to be used by this class.
+     */
+    private final Logger logger;
+
+    /**
+     * The storage that reads and writes the snapshots.
+     */
+    private final JsonItemStorage<T, F, M> snapshotStorage;
+
+    /**
+     * The dependency to handle JSON operations.
+     */
+    private final JsonHelper jsonHelper;
+
+    /**
+     * The number of records after which the journal is compacted.
+     */
+    private final int snapshotInterval;
+
+    /**
+     * The journal to which the records are appended.
+     */
+    private final Path journalPath;
+
+    /**
+     * The journal that is being compacted into the snapshot.
+     */
+    private final Path compactingPath;
+
+    /**
+     * The executor on which the snapshots are written.
+     */
+    private final ExecutorService snapshotExecutor =
+            Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "journal-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The changes that have not been appended to the journal yet, keyed by
+     * the id of the item. A {@code null} value means that the item has been
+     * removed.
+     */
+    private final Map<String, T> pendingChanges = new LinkedHashMap<>();
+
+    /**
+     * The records that have been created from the pending changes, but have
+     * not been written to the journal yet. Guarded by {@code this}, as they
+     * may be written on another thread.
+     */
+    private final StringBuilder unwrittenRecords = new StringBuilder();
+
+    /**
+     * The listener that records the changes to the tracked manager.
+     */
+    private final ListChangeListener<T> changeListener = this::onItemsChanged;
+
+    private ReadOnlyItemManager<T> trackedManager;
+
+    /**
+     * The channel to which the records are appended. Guarded by
+     * {@code this}.
+     */
+    private FileChannel journalChannel;
+    private int recordsSinceSnapshot;
+    private Future<?> pendingSnapshot;
+
+    /**
+     * Creates a new JsonJournalItemStorage object.
+     *
+     * @param snapshotStorage the storage that reads and writes the snapshots.
+     */
+    public JsonJournalItemStorage(JsonItemStorage<T, F, M> snapshotStorage) {
+        this(
+                snapshotStorage,
+                DEFAULT_SNAPSHOT_INTERVAL,
+                JsonHelper.INSTANCE,
+                LogsCenter.getLogger(JsonJournalItemStorage.class)
+        );
+    }
+
+    /**
+     * Creates a new JsonJournalItemStorage object.
+     *
+     * @param snapshotStorage  the storage that reads and writes the snapshots.
+     * @param snapshotInterval the number of records after which the journal
+     *                         is compacted.
+     * @param jsonHelper       the JsonHelper to be used.
+     * @param logger           the logger to be used.
+     */
+    protected JsonJournalItemStorage(
+            JsonItemStorage<T, F, M> snapshotStorage,
+            int snapshotInterval,
+            JsonHelper jsonHelper,
+            Logger logger
+    ) {
+        requireAllNonNull(snapshotStorage, jsonHelper, logger);
+        this.snapshotStorage = snapshotStorage;
+        this.snapshotInterval = snapshotInterval;
+        this.jsonHelper = jsonHelper;
+        this.logger = logger;
+        this.journalPath = siblingOf(snapshotStorage.getPath(), JOURNAL_EXTENSION);
+        this.compactingPath = siblingOf(journalPath, COMPACTING_EXTENSION);
+    }
+
+    private static Path siblingOf(Path path, String extension) {
+        return path.resolveSibling(path.getFileName() + extension);
+    }
+
+    /**
+     * Returns the path of the journal.
+     *
+     * @return the path of the journal.
+     */
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    @Override
+    public Path getPath() {
+        return snapshotStorage.getPath();
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read()
+            throws DataConversionException, IOException {
+        return read(getPath());
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getPath())) {
+            return snapshotStorage.read(filePath);
+        }
+        final Optional<? extends ReadOnlyItemManager<T>> snapshot = readSnapshot();
+        final ItemManager<T> manager = snapshot.isPresent()
+                ? new ItemManager<>(snapshot.get())
+                : new ItemManager<>();
+        final int replayed = replay(compactingPath, manager) + replay(journalPath, manager);
+        if (snapshot.isEmpty() && replayed == 0) {
+            return Optional.empty();
+        }
+        logger.info(String.format(
+                "Replayed %d journal record(s) on top of %s",
+                replayed,
+                filePath
+        ));
+        return Optional.of(manager);
+    }
+
+    private Optional<? extends ReadOnlyItemManager<T>> readSnapshot()
+            throws DataConversionException, IOException {
+        // the data file is created empty before anything is ever saved.
+        if (Files.exists(getPath()) && Files.size(getPath()) == 0) {
+            return Optional.empty();
+        }
+        return snapshotStorage.read(getPath());
+    }
+
+    /**
+     * Applies the records in the given journal to the given manager.
+     *
+     * @param path    the journal to replay.
+     * @param manager the manager to apply the records to.
+     * @return the number of records applied.
+     */
+    private int replay(Path path, ItemManager<T> manager)
+            throws DataConversionException, IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        final List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        int count = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                applyRecord(lines.get(i), manager);
+                count++;
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    // the app was stopped in the middle of appending.
+                    logger.warning(String.format(INCOMPLETE_RECORD_MESSAGE, path));
+                    break;
+                }
+                logger.warning(String.format(ILLEGAL_RECORD_MESSAGE, path, e.getMessage()));
+                throw new DataConversionException(e);
+            }
+        }
+        return count;
+    }
+
+    private void applyRecord(String record, ItemManager<T> manager)
+            throws IOException, IllegalValueException {
+        final int separatorIndex = record.indexOf(RECORD_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalValueException(record);
+        }
+        final String type = record.substring(0, separatorIndex);
+        final String payload = record.substring(separatorIndex + 1);
+        switch (type) {
+        case PUT_RECORD:
+            putItems(payload, manager);
+            break;
+        case REMOVE_RECORD:
+            if (manager.hasItem(payload)) {
+                manager.removeItem(payload);
+            }
+            break;
+        default:
+            throw new IllegalValueException(record);
+        }
+    }
+
+    private void putItems(String payload, ItemManager<T> manager)
+            throws IOException, IllegalValueException {
+        final M items = jsonHelper.fromJsonString(payload, snapshotStorage.getManagerClass());
+        for (T item : items.toModelType().getItemList()) {
+            final Optional<T> existing = manager.getItemOptional(item.getId());
+            if (existing.isPresent()) {
+                manager.setItem(existing.get(), item);
+            } else {
+                manager.addItem(item);
+            }
+        }
+    }
+
+    @Override
+    public void save(ReadOnlyItemManager<T> itemManager) throws IOException {
+        save(itemManager, getPath());
+    }
+
+    @Override
+    public void save(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) throws IOException {
+        requireAllNonNull(itemManager, filePath);
+        if (!filePath.equals(getPath())) {
+            snapshotStorage.save(itemManager, filePath);
+            return;
+        }
+        if (prepareRecords(itemManager)) {
+            writeUnwrittenRecords();
+        }
+    }
+
+    /**
+     * Creates the records of the pending changes right away, as this only
+     * takes time proportional to the number of changes, and returns a save
+     * that appends them to the journal.
+     * <p>
+     * The save appends all the records that have not been written yet, so
+     * it may replace the saves prepared before it that have not been
+     * performed, and it keeps the records if it fails, so that it can be
+     * performed again.
+     */
+    @Override
+    public SaveTask prepareSave(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) throws IOException {
+        requireAllNonNull(itemManager, filePath);
+        if (!filePath.equals(getPath())) {
+            return snapshotStorage.prepareSave(itemManager, filePath);
+        }
+        if (prepareRecords(itemManager)) {
+            return this::writeUnwrittenRecords;
+        }
+        return () -> {
+        };
+    }
+
+    /**
+     * Creates the records of the pending changes to the given manager, or
+     * writes the manager to the snapshot instead, if it is not tracked yet
+     * or if the journal has reached the snapshot interval.
+     *
+     * @param itemManager the manager that is saved.
+     * @return whether there are records left to be written.
+     */
+    private boolean prepareRecords(ReadOnlyItemManager<T> itemManager)
+            throws IOException {
+        if (itemManager != trackedManager) {
+            track(itemManager);
+            return false;
+        }
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        final StringBuilder records = new StringBuilder();
+        for (Map.Entry<String, T> change : pendingChanges.entrySet()) {
+            records.append(toRecord(change.getKey(), change.getValue()))
+                   .append(LINE_SEPARATOR);
+        }
+        synchronized (this) {
+            unwrittenRecords.append(records);
+        }
+        recordsSinceSnapshot += pendingChanges.size();
+        pendingChanges.clear();
+        if (recordsSinceSnapshot >= snapshotInterval) {
+            // the snapshot captures the records that have not been written.
+            compact(trackedManager, true);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Starts tracking the changes made to the given manager, after writing
+     * it as a whole to the snapshot.
+     *
+     * @param itemManager the manager to track.
+     */
+    private void track(ReadOnlyItemManager<T> itemManager) throws IOException {
+        if (trackedManager != null) {
+            trackedManager.getItemList().removeListener(changeListener);
+            trackedManager = null;
+        }
+        compact(itemManager, false);
+        trackedManager = itemManager;
+        trackedManager.getItemList().addListener(changeListener);
+    }
+
+    private void onItemsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (T item : change.getRemoved()) {
+                pendingChanges.put(item.getId(), null);
+            }
+            for (T item : change.getAddedSubList()) {
+                pendingChanges.put(item.getId(), item);
+            }
+        }
+    }
+
+    /**
+     * Appends the records that have not been written yet to the journal in
+     * a single write, and forces them to the disk. If this fails, whatever
+     * part of them has been written is cut off again, and they are kept to
+     * be written by the next call.
+     */
+    private synchronized void writeUnwrittenRecords() throws IOException {
+        if (unwrittenRecords.length() == 0) {
+            return;
+        }
+        if (journalChannel == null) {
+            journalChannel = FileChannel.open(
+                    journalPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+            );
+        }
+        final long journalSize = journalChannel.size();
+        final ByteBuffer buffer = ByteBuffer.wrap(
+                unwrittenRecords.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                journalChannel.write(buffer);
+            }
+            journalChannel.force(false);
+        } catch (IOException e) {
+            journalChannel.truncate(journalSize);
+            throw e;
+        }
+        unwrittenRecords.setLength(0);
+    }
+
+    private String toRecord(String id, T item) throws IOException {
+        if (item == null) {
+            return REMOVE_RECORD + RECORD_SEPARATOR + id;
+        }
+        final ItemManager<T> items = new ItemManager<>();
+        items.addItem(item);
+        return PUT_RECORD + RECORD_SEPARATOR
+                + jsonHelper.toCompactJsonString(snapshotStorage.createManager(items));
+    }
+
+    /**
+     * Writes the given manager to the snapshot, and discards the journal
+     * once the snapshot is on the disk. The state of the manager is captured
+     * before this method returns, even if the snapshot is written in the
+     * background.
+     *
+     * @param itemManager    the manager to write.
+     * @param isInBackground whether to write the snapshot in the background.
+     */
+    private void compact(ReadOnlyItemManager<T> itemManager, boolean isInBackground)
+            throws IOException {
+        awaitPendingSnapshot();
+        final List<F> snapshot = snapshotStorage.createAdaptedItems(itemManager);
+        pendingChanges.clear();
+        // the records are written first, in case the snapshot fails.
+        writeUnwrittenRecords();
+        rotateJournal();
+        recordsSinceSnapshot = 0;
+        if (isInBackground) {
+            pendingSnapshot = snapshotExecutor.submit(() -> {
+                writeSnapshot(snapshot);
+                return null;
+            });
+        } else {
+            writeSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * Moves the records in the journal to the journal being compacted, so
+     * that new records can be appended while the snapshot is written.
+     */
+    private synchronized void rotateJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        if (!Files.exists(compactingPath)) {
+            Files.move(journalPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        }
+        // the previous snapshot has failed, so its records are still needed.
+        try (FileChannel channel = FileChannel.open(
+                compactingPath,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        )) {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.delete(journalPath);
+    }
+
+    private void writeSnapshot(List<F> snapshot) throws IOException {
+        try {
+            jsonHelper.saveJsonArrayFile(
+                    getPath(),
+                    JsonItemManager.ITEMS_FIELD,
+                    snapshot,
+                    Function.identity()
+            );
+            Files.deleteIfExists(compactingPath);
+        } catch (IOException e) {
+            logger.warning(String.format(SNAPSHOT_FAILED_MESSAGE, getPath(), e));
+            throw e;
+        }
+    }
+
+    private void awaitPendingSnapshot() {
+        if (pendingSnapshot == null) {
+            return;
+        }
+        try {
+            pendingSnapshot.get();
+        } catch (ExecutionException e) {
+            // the records are kept in the journal being compacted.
+            logger.fine("Previous snapshot failed: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pendingSnapshot = null;
+    }
+
+    private synchronized void closeJournalChannel() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    /**
+     * Compacts the journal into the snapshot, and releases the resources
+     * held by this storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (trackedManager != null) {
+                trackedManager.getItemList().removeListener(changeListener);
+                if (!pendingChanges.isEmpty() || recordsSinceSnapshot > 0) {
+                    compact(trackedManager, false);
+                }
+                trackedManager = null;
+            }
+            awaitPendingSnapshot();
+            closeJournalChannel();
+        } finally {
+            snapshotExecutor.shutdown();
+        }
+    }
+}
@@ -33,4 +33,14 @@ public class JsonCrewManagerStorage
     ) {
         return JsonSerializableCrewManager.from(modelManager);
     }
+
+    @Override
+    protected Class<JsonAdaptedCrew> getItemClass() {
+        return JsonAdaptedCrew.class;
+    }
+
+    @Override
+    protected JsonAdaptedCrew createAdaptedItem(Crew item) {
+        return new JsonAdaptedCrew(item);
+    }
 }
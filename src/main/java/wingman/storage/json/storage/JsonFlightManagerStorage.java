@@ -34,4 +34,14 @@ public class JsonFlightManagerStorage
     ) {
         return JsonSerializableFlightManager.from(modelManager);
     }
+
+    @Override
+    protected Class<JsonAdaptedFlight> getItemClass() {
+        return JsonAdaptedFlight.class;
+    }
+
+    @Override
+    protected JsonAdaptedFlight createAdaptedItem(Flight item) {
+        return new JsonAdaptedFlight(item);
+    }
 }
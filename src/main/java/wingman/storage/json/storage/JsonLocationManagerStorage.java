@@ -33,4 +33,14 @@ public class JsonLocationManagerStorage
     ) {
         return JsonSerializableLocationManager.from(modelManager);
     }
+
+    @Override
+    protected Class<JsonAdaptedLocation> getItemClass() {
+        return JsonAdaptedLocation.class;
+    }
+
+    @Override
+    protected JsonAdaptedLocation createAdaptedItem(Location item) {
+        return new JsonAdaptedLocation(item);
+    }
 }
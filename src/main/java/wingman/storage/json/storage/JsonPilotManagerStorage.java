@@ -33,4 +33,14 @@ public class JsonPilotManagerStorage
     ) {
         return JsonSerializablePilotManager.from(modelManager);
     }
+
+    @Override
+    protected Class<JsonAdaptedPilot> getItemClass() {
+        return JsonAdaptedPilot.class;
+    }
+
+    @Override
+    protected JsonAdaptedPilot createAdaptedItem(Pilot item) {
+        return new JsonAdaptedPilot(item);
+    }
 }
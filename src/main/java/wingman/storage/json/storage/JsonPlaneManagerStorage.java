@@ -28,4 +28,14 @@ public class JsonPlaneManagerStorage
     ) {
         return JsonSerializablePlaneManager.from(modelManager);
     }
+
+    @Override
+    protected Class<JsonAdaptedPlane> getItemClass() {
+        return JsonAdaptedPlane.class;
+    }
+
+    @Override
+    protected JsonAdaptedPlane createAdaptedItem(Plane item) {
+        return new JsonAdaptedPlane(item);
+    }
 }
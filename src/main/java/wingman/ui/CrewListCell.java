@@ -4,13 +4,14 @@ import javafx.scene.control.ListCell;
 import wingman.model.item.Item;
 
 /**
- * The cell that displays the crew in the list.
+ * The cell that displays the crew in the list. The cell builds its card
+ * once, and reuses it for every crew that it displays.
  *
  * @param <Crew> The type of Item to display.
  */
 public class CrewListCell<Crew extends Item> extends ListCell<Crew> {
 
-    private static final String FXML = "CrewListCell.fxml";
+    private final CrewCard card = new CrewCard();
 
     @Override
     protected void updateItem(Crew crew, boolean empty) {
@@ -19,9 +20,8 @@ public class CrewListCell<Crew extends Item> extends ListCell<Crew> {
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new CrewCard(
-                    (wingman.model.crew.Crew) crew, getIndex() + 1)
-                    .getRoot());
+            card.setItem((wingman.model.crew.Crew) crew, ItemCard.displayedIndexOf(this));
+            setGraphic(card.getRoot());
         }
     }
 }
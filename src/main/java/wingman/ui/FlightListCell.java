@@ -4,13 +4,14 @@ import javafx.scene.control.ListCell;
 import wingman.model.item.Item;
 
 /**
- * The cell that displays the flights in the list.
+ * The cell that displays the flights in the list. The cell builds its card
+ * once, and reuses it for every flight that it displays.
  *
  * @param <Flight> The type of Item to display.
  */
 public class FlightListCell<Flight extends Item> extends ListCell<Flight> {
 
-    private static final String FXML = "FlightListCell.fxml";
+    private final FlightCard card = new FlightCard();
 
     @Override
     protected void updateItem(Flight flight, boolean empty) {
@@ -19,7 +20,8 @@ public class FlightListCell<Flight extends Item> extends ListCell<Flight> {
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new FlightCard((wingman.model.flight.Flight) flight, getIndex() + 1).getRoot());
+            card.setItem((wingman.model.flight.Flight) flight, ItemCard.displayedIndexOf(this));
+            setGraphic(card.getRoot());
         }
     }
 }
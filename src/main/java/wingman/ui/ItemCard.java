@@ -0,0 +1,119 @@
+package wingman.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import wingman.model.item.Item;
+
+/**
+ * A view for an item in a list, which shows its displayed index and the
+ * lines of its display list.
+ * <p>
+ * The view is built in code rather than loaded from FXML, and it can be
+ * reused to display a different item. A list cell thus builds its card once,
+ * and only updates the texts of its labels as it is scrolled to other items.
+ *
+ * @param <T> the type of the item displayed.
+ */
+public abstract class ItemCard<T extends Item> {
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+
+    private final HBox root;
+    private final Label id;
+    private final VBox cardPane;
+    private T item;
+
+    /**
+     * Creates a card that does not display any item yet.
+     */
+    protected ItemCard() {
+        id = new Label();
+        id.getStyleClass().add(BIG_LABEL_STYLE_CLASS);
+        cardPane = new VBox();
+        cardPane.setId("cardPane");
+        VBox.setVgrow(cardPane, Priority.ALWAYS);
+        root = new HBox(id, cardPane);
+    }
+
+    /**
+     * Displays the given item on this card, reusing the labels that are
+     * already on it.
+     *
+     * @param item           the item to be displayed.
+     * @param displayedIndex the one-based index of the item in the list.
+     */
+    public void setItem(T item, int displayedIndex) {
+        this.item = item;
+        id.setText(displayedIndex + ". ");
+        final List<String> lines = item.getDisplayList();
+        final ObservableList<Node> labels = cardPane.getChildren();
+        if (labels.size() > lines.size()) {
+            labels.remove(lines.size(), labels.size());
+        }
+        while (labels.size() < lines.size()) {
+            labels.add(new Label());
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            ((Label) labels.get(i)).setText(lines.get(i));
+        }
+    }
+
+    /**
+     * Returns the one-based index to display for the item of the given cell.
+     * This is the position of the item in the full item list rather than in
+     * the list shown, which may be filtered, e.g. by a {@code find}, so that
+     * the indexes typed into commands refer to the items displayed with them.
+     *
+     * @param cell the cell that displays the item.
+     * @return the one-based index of the item in the full item list.
+     */
+    public static int displayedIndexOf(ListCell<?> cell) {
+        return displayedIndexOf(cell.getListView().getItems(), cell.getIndex());
+    }
+
+    /**
+     * Returns the one-based index of the item at the given position of the
+     * list shown in the full item list. The list shown may be filtered more
+     * than once, e.g. by the operation mode and then by a {@code find}, so
+     * the position is mapped through each of the lists that it is built on.
+     *
+     * @param shown    the list shown.
+     * @param position the position of the item in the list shown.
+     * @return the one-based index of the item in the full item list.
+     */
+    static int displayedIndexOf(List<?> shown, int position) {
+        List<?> list = shown;
+        int index = position;
+        while (list instanceof TransformationList) {
+            final TransformationList<?, ?> transformed = (TransformationList<?, ?>) list;
+            index = transformed.getSourceIndex(index);
+            list = transformed.getSource();
+        }
+        return index + 1;
+    }
+
+    /**
+     * Returns the item that is being displayed.
+     *
+     * @return the item that is being displayed.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the root of the card, which is set as the graphic of a cell.
+     *
+     * @return the root of the card.
+     */
+    public HBox getRoot() {
+        return root;
+    }
+}
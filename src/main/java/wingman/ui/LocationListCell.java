@@ -4,13 +4,14 @@ import javafx.scene.control.ListCell;
 import wingman.model.item.Item;
 
 /**
- * The cell that displays the locations in the list.
+ * The cell that displays the locations in the list. The cell builds its card
+ * once, and reuses it for every location that it displays.
  *
  * @param <Location> The location to display.
  */
 public class LocationListCell<Location extends Item> extends ListCell<Location> {
 
-    private static final String FXML = "LocationListCell.fxml";
+    private final LocationCard card = new LocationCard();
 
     @Override
     protected void updateItem(Location location, boolean empty) {
@@ -19,7 +20,8 @@ public class LocationListCell<Location extends Item> extends ListCell<Location>
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new LocationCard((wingman.model.location.Location) location, getIndex() + 1).getRoot());
+            card.setItem((wingman.model.location.Location) location, ItemCard.displayedIndexOf(this));
+            setGraphic(card.getRoot());
         }
     }
 }
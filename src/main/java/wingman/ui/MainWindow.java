@@ -41,6 +41,7 @@ public class MainWindow extends UiPart<Stage> {
     private PilotListPanel pilotListPanel;
     private LocationListPanel locationListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -146,8 +147,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter =
-                new StatusBarFooter(logic.getOperationMode());
+        statusBarFooter = new StatusBarFooter(logic.getOperationMode());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         MenuBar menuBar =
@@ -222,6 +222,18 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows the given error in the result display, e.g. when the data could
+     * not be saved after a command has already succeeded.
+     *
+     * @param message the error to show.
+     */
+    public void showError(String message) {
+        if (resultDisplay != null) {
+            resultDisplay.setFeedbackToUser(message);
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -233,33 +245,9 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            StatusBarFooter statusBarFooter =
-                    new StatusBarFooter(logic.getOperationMode());
-            statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-            MenuBar menuBar =
-                    new MenuBar();
-            menuBarPlaceholder.getChildren().add(menuBar.getRoot());
-
-            flightListPanel = new FlightListPanel(logic.getFilteredFlightList());
-            Region flight = flightListPanel.getRoot();
-            flightListPanelPlaceholder.getChildren().add(flight);
-
-            crewListPanel = new CrewListPanel(logic.getFilteredCrewList());
-            Region crew = crewListPanel.getRoot();
-            crewListPanelPlaceholder.getChildren().add(crew);
-
-            planeListPanel = new PlaneListPanel(logic.getFilteredPlaneList());
-            Region plane = planeListPanel.getRoot();
-            planeListPanelPlaceholder.getChildren().add(plane);
-
-            pilotListPanel = new PilotListPanel(logic.getFilteredPilotList());
-            Region pilot = pilotListPanel.getRoot();
-            pilotListPanelPlaceholder.getChildren().add(pilot);
-
-            locationListPanel = new LocationListPanel(logic.getFilteredLocationList());
-            Region location = locationListPanel.getRoot();
-            locationListPanelPlaceholder.getChildren().add(location);
+            // the list panels are bound to the model's lists, and update
+            // themselves as the items in them change.
+            statusBarFooter.setOperationMode(logic.getOperationMode());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -4,13 +4,14 @@ import javafx.scene.control.ListCell;
 import wingman.model.item.Item;
 
 /**
- * The cell that displays the pilots in the list.
+ * The cell that displays the pilots in the list. The cell builds its card
+ * once, and reuses it for every pilot that it displays.
  *
  * @param <Pilot> The type of Item to display.
  */
 public class PilotListCell<Pilot extends Item> extends ListCell<Pilot> {
 
-    private static final String FXML = "PilotListCell.fxml";
+    private final PilotCard card = new PilotCard();
 
     @Override
     protected void updateItem(Pilot pilot, boolean empty) {
@@ -19,7 +20,8 @@ public class PilotListCell<Pilot extends Item> extends ListCell<Pilot> {
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new PilotCard((wingman.model.pilot.Pilot) pilot, getIndex() + 1).getRoot());
+            card.setItem((wingman.model.pilot.Pilot) pilot, ItemCard.displayedIndexOf(this));
+            setGraphic(card.getRoot());
         }
     }
 }
@@ -4,13 +4,14 @@ import javafx.scene.control.ListCell;
 import wingman.model.item.Item;
 
 /**
- * The cell that displays the planes in the list.
+ * The cell that displays the planes in the list. The cell builds its card
+ * once, and reuses it for every plane that it displays.
  *
  * @param <Plane> The type of Item to display.
  */
 public class PlaneListCell<Plane extends Item> extends ListCell<Plane> {
 
-    private static final String FXML = "PlaneListCell.fxml";
+    private final PlaneCard card = new PlaneCard();
 
     @Override
     protected void updateItem(Plane plane, boolean empty) {
@@ -19,7 +20,8 @@ public class PlaneListCell<Plane extends Item> extends ListCell<Plane> {
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new PlaneCard((wingman.model.plane.Plane) plane, getIndex() + 1).getRoot());
+            card.setItem((wingman.model.plane.Plane) plane, ItemCard.displayedIndexOf(this));
+            setGraphic(card.getRoot());
         }
     }
 }
@@ -20,6 +20,15 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     public StatusBarFooter(OperationMode mode) {
         super(FXML);
+        setOperationMode(mode);
+    }
+
+    /**
+     * Displays the given operation mode.
+     *
+     * @param mode the current operation mode.
+     */
+    public void setOperationMode(OperationMode mode) {
         modeStatus.setText("Mode: " + mode.toString());
     }
 
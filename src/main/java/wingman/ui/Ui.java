@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows the given error to the user. This may be called from any thread,
+     * e.g. when saving the data in the background fails.
+     */
+    void showError(String message);
+
 }
@@ -50,6 +50,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showError(String message) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showError(message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
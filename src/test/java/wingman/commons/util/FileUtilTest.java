@@ -1,13 +1,22 @@
 package wingman.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import wingman.testutil.Assert;
 
 public class FileUtilTest {
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void isValidPath() {
@@ -21,4 +30,28 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_previousContentsKeptAsBackup() throws IOException {
+        final Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeAtomically(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)), true);
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws IOException {
+        final Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "first");
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("half".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, true));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(file)));
+    }
 }
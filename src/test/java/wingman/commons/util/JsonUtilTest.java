@@ -1,12 +1,19 @@
 package wingman.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
 import wingman.testutil.SerializableTestClass;
 import wingman.testutil.TestUtil;
 
@@ -39,6 +46,35 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveThenReadJsonArrayFile_elementsReadInOrder()
+            throws IOException, DataConversionException, IllegalValueException {
+        final List<String> names = List.of("One", "Two", "Three");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", names, Function.identity());
+
+        final List<String> result = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, result::add));
+        assertEquals(names, result);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFieldsPresent_otherFieldsSkipped()
+            throws IOException, DataConversionException, IllegalValueException {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{ \"before\" : { \"items\" : [ 1 ] }, \"items\" : [ 2, 3 ], \"after\" : [ 4 ] }");
+
+        final List<Integer> result = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", Integer.class, result::add));
+        assertEquals(List.of(2, 3), result);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse()
+            throws DataConversionException, IllegalValueException {
+        final Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "items", String.class, element -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,102 @@
+package wingman.logic.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.fp.Lazy;
+import wingman.commons.util.GetUtil;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.pilot.linkflight.LinkPilotToFlightCommand;
+import wingman.logic.pilot.linkflight.PilotFlightLinkCommandFactory;
+import wingman.logic.toplevel.add.AddCommandFactory;
+import wingman.logic.toplevel.changemode.ChangeModeCommandFactory;
+import wingman.logic.toplevel.syntax.FlightSyntax;
+import wingman.model.Model;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.model.flight.Flight;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+/**
+ * A test class for {@code CommandBatch}.
+ */
+public class CommandBatchTest {
+    private Model model;
+    private CommandBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        model.addPilot(new Pilot("Pilot", 30, Gender.OTHER, PilotRank.CAPTAIN, 100));
+        model.addFlight(new Flight("SQ123"));
+        GetUtil.putForce(Model.class, model);
+        // the factories of the default parser keep the model that was registered first.
+        batch = new CommandBatch(new WingmanParser(
+                List.of(
+                        new CommandGroup(OperationMode.PILOT, List.of(
+                                new PilotFlightLinkCommandFactory<>(
+                                        Lazy.of(model),
+                                        LinkPilotToFlightCommand::new,
+                                        "linkflight"
+                                )
+                        )),
+                        new CommandGroup(OperationMode.FLIGHT, List.of(
+                                new AddCommandFactory<>(
+                                        "flight",
+                                        Optional.of(FlightSyntax.PREFIXES),
+                                        FlightSyntax::add,
+                                        FlightSyntax::factory
+                                )
+                        ))
+                ),
+                List.of(new ChangeModeCommandFactory())
+        ));
+    }
+
+    @Test
+    void execute_allCommandsSucceed_appliesCommandsInTheirModes() throws CommandException {
+        final CommandResult result = batch.execute(model, List.of(
+                "mode flight",
+                "add /c SQ321",
+                "",
+                "# the pilot flies the first flight",
+                "mode pilot",
+                "linkflight /fl 1 /pf 1"
+        ));
+
+        assertEquals("Ran 4 commands.", result.getFeedbackToUser());
+        assertEquals(OperationMode.PILOT, model.getOperationMode());
+        assertEquals(2, model.getFlightManager().size());
+        assertEquals(1, model.getFlightManager().getItem(0).getPilotLink().getCopiedContents()
+                             .values().stream().mapToInt(ids -> ids.size()).sum());
+    }
+
+    @Test
+    void execute_commandFails_restoresModelAndReportsLine() {
+        final CommandException exception = assertThrows(CommandException.class, () -> batch.execute(model, List.of(
+                "mode flight",
+                "add /c SQ321",
+                "mode pilot",
+                "linkflight /fl 1 /pf 1",
+                "unknown command"
+        )));
+
+        assertTrue(exception.getMessage().startsWith("Line 5:"));
+        assertEquals(OperationMode.PILOT, model.getOperationMode());
+        assertEquals(1, model.getFlightManager().size());
+        final Flight flight = model.getFlightManager().getItem(0);
+        assertEquals("SQ123", flight.getCode());
+        assertEquals(0, flight.getPilotLink().getCopiedContents()
+                              .values().stream().mapToInt(ids -> ids.size()).sum());
+        assertTrue(model.getPilotManager().getItem(0).isAvailable());
+    }
+}
@@ -111,6 +111,20 @@ public class CommandParamTest {
         assertEquals(Optional.empty(), namedValues.get(PREFIX_D));
     }
 
+    @Test
+    void from_prefixWithoutValue_returnsEmptyStringOrEmpty() throws ParseException {
+        // setup
+        tokens.addAll(List.of(PREFIX_A, PREFIX_B, "value", PREFIX_C));
+        // execute
+        CommandParam param = CommandParam.from(tokens, Optional.of(prefixes));
+        // verify
+        assertFalse(param.getUnnamedValue().isPresent());
+        assertEquals(Optional.of(""), param.getNamedValues(PREFIX_A));
+        assertEquals(Optional.of("value"), param.getNamedValues(PREFIX_B));
+        assertEquals(Optional.empty(), param.getNamedValues(PREFIX_C));
+        assertTrue(tokens.isEmpty());
+    }
+
     @Test
     void getUnnamedValue_emptyToken_returnEmpty() {
         // setup
@@ -3,6 +3,7 @@ package wingman.logic.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -89,4 +90,17 @@ public class WingmanParserTest extends LogicCoreParserTestBase {
         assertNotEquals(group1Command, result);
         assertNotEquals(group2Command, result);
     }
+
+    @Test
+    void tokenize_mixedWhitespace_splitsByWhitespace() {
+        assertEquals(List.of("add", "/n", "Amelia", "Earhart"),
+            new ArrayList<>(WingmanParser.tokenize("add  /n\tAmelia \r\nEarhart ")));
+    }
+
+    @Test
+    void tokenize_leadingWhitespaceOrEmpty_returnsEmptyFirstToken() {
+        assertEquals(List.of("", "add"), new ArrayList<>(WingmanParser.tokenize(" add")));
+        assertEquals(List.of(""), new ArrayList<>(WingmanParser.tokenize("")));
+        assertEquals(List.of(), new ArrayList<>(WingmanParser.tokenize("  ")));
+    }
 }
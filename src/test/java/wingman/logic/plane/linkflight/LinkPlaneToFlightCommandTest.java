@@ -1,12 +1,15 @@
 package wingman.logic.plane.linkflight;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import wingman.commons.util.GetUtil;
 import wingman.logic.core.exceptions.CommandException;
 import wingman.model.Model;
 import wingman.model.ModelManager;
@@ -56,4 +59,19 @@ public class LinkPlaneToFlightCommandTest {
         // making a link after an initial link exists
         assertDoesNotThrow(() -> linkCommand2.execute(model));
     }
+
+    @Test
+    public void execute_flightInModel_updatesFlightOnce() throws CommandException {
+        GetUtil.putForce(Model.class, model);
+        model.addPlane(plane1);
+        model.addFlight(flight);
+        final long version = model.getFlightManager().getVersion();
+        final int[] changes = {0};
+        model.getFlightList().addListener((ListChangeListener<Flight>) c -> changes[0]++);
+
+        linkCommand1.execute(model);
+
+        assertEquals(1, changes[0]);
+        assertEquals(version + 1, model.getFlightManager().getVersion());
+    }
 }
@@ -1,5 +1,6 @@
 package wingman.logic.toplevel.delete;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,11 +13,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import wingman.commons.util.GetUtil;
 import wingman.logic.core.CommandResult;
 import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.toplevel.syntax.FlightSyntax;
+import wingman.logic.toplevel.syntax.PilotSyntax;
 import wingman.model.Model;
+import wingman.model.ModelManager;
 import wingman.model.ReadOnlyItemManager;
+import wingman.model.flight.Flight;
 import wingman.model.item.Item;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.Location;
+import wingman.model.location.PilotLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.FlightPlaneType;
+import wingman.model.plane.Plane;
 
 
 /**
@@ -74,4 +89,50 @@ public class DeleteCommandTest {
 
         verify(getManagerFunction, times(1)).get(model);
     }
+
+    @Test
+    public void testExecute_linkedPilot_unlinksPilotFromReferrers() throws CommandException, LinkException {
+        final Model realModel = new ModelManager();
+        GetUtil.putForce(Model.class, realModel);
+        final Pilot pilot = new Pilot("Pilot", 30, Gender.OTHER, PilotRank.CAPTAIN, 100);
+        realModel.addPilot(pilot);
+        final Flight flight = new Flight("SQ1");
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        realModel.addFlight(flight);
+        final Location location = new Location("Singapore");
+        location.getPilotLink().put(PilotLocationType.LOCATION_USING, pilot);
+        realModel.addLocation(location);
+
+        new DeleteCommand<>(1, PilotSyntax::getManager, PilotSyntax::delete).execute(realModel);
+
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, pilot.getId()));
+        assertFalse(location.getPilotLink().contains(PilotLocationType.LOCATION_USING, pilot.getId()));
+        assertTrue(realModel.getFlightsLinkedTo(pilot.getId()).isEmpty());
+        assertTrue(realModel.getLocationsLinkedTo(pilot.getId()).isEmpty());
+    }
+
+    @Test
+    public void testExecute_flight_restoresAvailabilityOfItemsNoLongerLinked()
+            throws CommandException, LinkException {
+        final Model realModel = new ModelManager();
+        GetUtil.putForce(Model.class, realModel);
+        final Pilot pilot = new Pilot("Pilot", 30, Gender.OTHER, PilotRank.CAPTAIN, 100);
+        final Plane plane = new Plane("A350", 3);
+        realModel.addPilot(pilot);
+        realModel.addPlane(plane);
+        final Flight deleted = new Flight("SQ1");
+        final Flight kept = new Flight("SQ2");
+        deleted.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        deleted.getPlaneLink().put(FlightPlaneType.PLANE_USING, plane);
+        kept.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        pilot.setUnavailable();
+        plane.setUnavailable();
+        realModel.addFlight(deleted);
+        realModel.addFlight(kept);
+
+        new DeleteCommand<>(1, FlightSyntax::getManager, FlightSyntax::delete).execute(realModel);
+
+        assertTrue(plane.isAvailable());
+        assertFalse(pilot.isAvailable());
+    }
 }
@@ -0,0 +1,55 @@
+package wingman.logic.toplevel.find;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.logic.toplevel.syntax.PilotSyntax;
+import wingman.model.ModelManager;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class FindCommandTest {
+    private ModelManager model;
+    private Pilot bob;
+    private Pilot alice;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        alice = new Pilot("1", "Alice Bobson", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+        bob = new Pilot("2", "Bob", 45, Gender.MALE, PilotRank.CAPTAIN, 12000);
+        model.addPilot(alice);
+        model.addPilot(bob);
+        model.addPilot(new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CADET, 100));
+    }
+
+    private FindCommand<Pilot> findPilots(String query) {
+        return new FindCommand<>(query, PilotSyntax::find, PilotSyntax::filter);
+    }
+
+    @Test
+    void execute_matchingQuery_showsOnlyMatchesBestFirst() {
+        final String feedback = findPilots("bob").execute(model).getFeedbackToUser();
+        assertEquals("Found 2 matches for \"bob\":\n1. " + bob + "\n2. " + alice, feedback);
+        assertEquals(List.of(alice, bob), model.getFilteredPilotList());
+    }
+
+    @Test
+    void execute_noMatches_showsNoItems() {
+        final String feedback = findPilots("dave").execute(model).getFeedbackToUser();
+        assertEquals("Found no matches for \"dave\".", feedback);
+        assertEquals(0, model.getFilteredPilotList().size());
+    }
+
+    @Test
+    void execute_emptyQuery_showsAllItems() {
+        findPilots("bob").execute(model);
+        findPilots("").execute(model);
+        assertEquals(3, model.getFilteredPilotList().size());
+    }
+}
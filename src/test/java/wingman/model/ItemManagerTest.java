@@ -0,0 +1,153 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import wingman.model.item.ItemIndex;
+import wingman.model.item.exceptions.DuplicateItemException;
+import wingman.model.plane.Plane;
+import wingman.testutil.Assert;
+
+public class ItemManagerTest {
+    private ItemManager<Plane> manager;
+    private Plane plane;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ItemManager<>();
+        plane = new Plane("A380", 1);
+    }
+
+    @Test
+    void constructor_newManager_shouldHaveVersionZero() {
+        assertEquals(0, manager.getVersion());
+    }
+
+    @Test
+    void addItem_validItem_shouldIncrementVersion() {
+        manager.addItem(plane);
+        assertEquals(1, manager.getVersion());
+    }
+
+    @Test
+    void addItem_duplicateItem_shouldNotIncrementVersion() {
+        manager.addItem(plane);
+        Assert.assertThrows(DuplicateItemException.class, () -> manager.addItem(plane));
+        assertEquals(1, manager.getVersion());
+    }
+
+    @Test
+    void setItem_validItem_shouldIncrementVersion() {
+        manager.addItem(plane);
+        manager.setItem(plane, new Plane("A350", 2));
+        assertEquals(2, manager.getVersion());
+    }
+
+    @Test
+    void setItems_validItems_shouldIncrementVersion() {
+        manager.setItems(List.of(plane));
+        assertEquals(1, manager.getVersion());
+    }
+
+    @Test
+    void removeItem_existingItem_shouldIncrementVersion() {
+        manager.addItem(plane);
+        manager.removeItem(plane.getId());
+        assertEquals(2, manager.getVersion());
+    }
+
+    @Test
+    void replaceItems_someItems_shouldReplaceThemInSingleChange() {
+        final Plane other = new Plane("B777", 3);
+        manager.addItems(List.of(plane, other, new Plane("A320", 2)));
+        final long version = manager.getVersion();
+        final int[] changes = {0};
+        manager.getItemList().addListener((ListChangeListener<Plane>) c -> changes[0]++);
+        final Plane edited = new Plane(other.getId(), "B787", 4);
+        manager.replaceItems(List.of(edited));
+        assertEquals(1, changes[0]);
+        assertNotEquals(version, manager.getVersion());
+        assertEquals(edited, manager.getItem(1));
+        assertEquals(plane, manager.getItem(0));
+    }
+
+    @Test
+    void removeItem_indexedItems_shouldOnlyUnindexRemovedItem() {
+        final Plane other = new Plane("B777", 3);
+        final Plane last = new Plane("A320", 2);
+        manager.addItems(List.of(plane, other, last));
+        final List<String> calls = new ArrayList<>();
+        manager.addIndex(new ItemIndex<>() {
+            @Override
+            public void index(Plane item, int slot) {
+                calls.add("index " + item.getModel() + " " + slot);
+            }
+
+            @Override
+            public void unindex(int slot) {
+                calls.add("unindex " + slot);
+            }
+
+            @Override
+            public void clear() {
+                calls.add("clear");
+            }
+        });
+        calls.clear();
+        manager.removeItem(plane.getId());
+        assertEquals(List.of("unindex 0"), calls);
+        assertEquals(2, manager.slotOf(last.getId()));
+        assertEquals(1, manager.indexOf(last.getId()));
+    }
+
+    @Test
+    void updateItem_existingItem_shouldIncrementVersion() {
+        manager.addItem(plane);
+        final long version = manager.getVersion();
+        plane.setUnavailable();
+        manager.updateItem(plane);
+        assertNotEquals(version, manager.getVersion());
+    }
+
+    @Test
+    void updateItem_nullItem_shouldThrowNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> manager.updateItem(null));
+    }
+
+    @Test
+    void updateItem_itemNotInManager_shouldBeIgnored() {
+        final long version = manager.getVersion();
+        manager.updateItem(plane);
+        assertEquals(version, manager.getVersion());
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    void refreshItem_existingItem_shouldNotIncrementVersion() {
+        manager.addItem(plane);
+        final long version = manager.getVersion();
+        manager.refreshItem(plane);
+        assertEquals(version, manager.getVersion());
+    }
+
+    @Test
+    void getItemOptional_existingId_shouldReturnItem() {
+        manager.addItem(plane);
+        assertEquals(Optional.of(plane), manager.getItemOptional(plane.getId()));
+    }
+
+    @Test
+    void getItemOptional_removedId_shouldReturnEmpty() {
+        manager.addItem(plane);
+        manager.removeItem(plane.getId());
+        assertEquals(Optional.empty(), manager.getItemOptional(plane.getId()));
+    }
+}
@@ -0,0 +1,103 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class ItemQueryTest {
+    private ItemManager<Pilot> manager;
+    private Pilot seniorCaptain;
+    private Pilot juniorCaptain;
+    private Pilot cadet;
+
+    @BeforeEach
+    void setUp() {
+        seniorCaptain = new Pilot("1", "Alice", 50, Gender.FEMALE, PilotRank.CAPTAIN, 12000);
+        juniorCaptain = new Pilot("2", "Bob", 35, Gender.MALE, PilotRank.CAPTAIN, 5000);
+        cadet = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CADET, 6000);
+        manager = new ItemManager<>();
+        manager.setItems(List.of(seniorCaptain, juniorCaptain, cadet));
+        manager.addHashIndex(Pilot.RANK);
+        manager.addSortedIndex(Pilot.FLIGHT_HOUR);
+    }
+
+    @Test
+    void query_rankAndFlightHours_returnsIntersection() {
+        final List<Pilot> found = manager.query()
+                .whereEquals(Pilot.RANK, PilotRank.CAPTAIN)
+                .whereGreaterThan(Pilot.FLIGHT_HOUR, 5000)
+                .getItems();
+        assertEquals(List.of(seniorCaptain), found);
+    }
+
+    @Test
+    void query_attributeNotIndexed_testsItems() {
+        assertEquals(List.of(seniorCaptain, cadet),
+                manager.query().whereEquals(Pilot.GENDER, Gender.FEMALE).getItems());
+        assertEquals(2,
+                manager.query().whereBetween(Pilot.AGE, 35, 50).count());
+        assertEquals(List.of(cadet),
+                manager.query().whereLessThan(Pilot.AGE, 35).getItems());
+    }
+
+    @Test
+    void query_afterItemsChange_usesUpdatedIndexes() {
+        manager.removeItem(seniorCaptain.getId());
+        final Pilot promoted = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CAPTAIN, 6000);
+        manager.setItem(cadet, promoted);
+        final Pilot newCaptain = new Pilot("4", "Dave", 45, Gender.MALE, PilotRank.CAPTAIN, 8000);
+        manager.addItem(newCaptain);
+        assertEquals(List.of(promoted, newCaptain), manager.query()
+                .whereEquals(Pilot.RANK, PilotRank.CAPTAIN)
+                .whereBetween(Pilot.FLIGHT_HOUR, 5500, 9000)
+                .getItems());
+        assertEquals(0, manager.query().whereEquals(Pilot.RANK, PilotRank.CADET).count());
+    }
+
+    @Test
+    void query_afterManyRemovals_findsRemainingItemsInOrder() {
+        final List<Pilot> experiencedCaptains = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final PilotRank rank = i % 2 == 0 ? PilotRank.CAPTAIN : PilotRank.CADET;
+            final Pilot pilot = new Pilot("p" + i, "Pilot " + i, 30, Gender.MALE, rank, i * 100);
+            manager.addItem(pilot);
+            if (i % 6 == 0 && i * 100 > 12000) {
+                experiencedCaptains.add(pilot);
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            if (i % 6 != 0) {
+                manager.removeItem("p" + i);
+            }
+        }
+        manager.removeItem(juniorCaptain.getId());
+        assertEquals(experiencedCaptains, manager.query()
+                .whereEquals(Pilot.RANK, PilotRank.CAPTAIN)
+                .whereGreaterThan(Pilot.FLIGHT_HOUR, 12000)
+                .getItems());
+        assertEquals(List.of(cadet), manager.query()
+                .whereEquals(Pilot.RANK, PilotRank.CADET)
+                .getItems());
+    }
+
+    @Test
+    void asPredicate_matchesItemsFoundByQuery() {
+        final Predicate<Pilot> predicate = manager.query()
+                .whereEquals(Pilot.RANK, PilotRank.CAPTAIN)
+                .asPredicate();
+        assertTrue(predicate.test(seniorCaptain));
+        assertTrue(predicate.test(juniorCaptain));
+        assertFalse(predicate.test(cadet));
+    }
+}
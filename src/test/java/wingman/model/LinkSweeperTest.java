@@ -0,0 +1,75 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.util.GetUtil;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+/**
+ * A test class for {@code LinkSweeper}.
+ */
+public class LinkSweeperTest {
+    private Model model;
+    private Pilot pilot;
+    private LinkSweeper sweeper;
+
+    @BeforeEach
+    void setUp() throws LinkException {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        pilot = new Pilot("Pilot", 30, Gender.OTHER, PilotRank.CAPTAIN, 100);
+        model.addPilot(pilot);
+        for (String code : new String[] {"SQ1", "SQ2", "SQ3"}) {
+            final Flight flight = new Flight(code);
+            flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+            model.addFlight(flight);
+        }
+        sweeper = new LinkSweeper(model, Runnable::run);
+    }
+
+    @Test
+    void sweepSlice_replacedItems_removesTheirIds() throws LinkException {
+        // deleting the pilot would unlink it, but replacing all the pilots,
+        // as when they are loaded from a file, leaves their ids in the links.
+        model.setPilotManager(new ItemManager<>());
+
+        assertTrue(sweeper.sweepSlice(Long.MAX_VALUE));
+
+        assertEquals(3, sweeper.getRemovedCount());
+        for (Flight flight : model.getFlightList()) {
+            assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, pilot.getId()));
+        }
+    }
+
+    @Test
+    void sweepSlice_existingItem_keepsItsIds() {
+        assertTrue(sweeper.sweepSlice(Long.MAX_VALUE));
+
+        assertEquals(0, sweeper.getRemovedCount());
+        for (Flight flight : model.getFlightList()) {
+            assertTrue(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, pilot.getId()));
+        }
+    }
+
+    @Test
+    void sweepSlice_noBudget_sweepsOneItemPerSlice() {
+        model.setPilotManager(new ItemManager<>());
+
+        assertFalse(sweeper.sweepSlice(0));
+        assertEquals(1, sweeper.getRemovedCount());
+        assertFalse(sweeper.sweepSlice(0));
+        assertFalse(sweeper.sweepSlice(0));
+        assertEquals(3, sweeper.getRemovedCount());
+        assertTrue(sweeper.sweepSlice(0));
+    }
+}
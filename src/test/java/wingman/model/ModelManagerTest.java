@@ -0,0 +1,95 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import wingman.commons.util.GetUtil;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.Location;
+import wingman.model.location.PilotLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+/**
+ * A test class for {@code ModelManager}.
+ */
+public class ModelManagerTest {
+    private Model model;
+    private Pilot alice;
+    private Pilot bob;
+    private Pilot carol;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        alice = new Pilot("1", "Alice", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+        bob = new Pilot("2", "Bob", 45, Gender.MALE, PilotRank.CAPTAIN, 12000);
+        carol = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CADET, 100);
+        model.addPilots(List.of(alice, bob, carol));
+    }
+
+    @Test
+    void replacePilots_editedPilots_shouldReplaceThemInSingleChange() {
+        final int[] changes = {0};
+        model.getFilteredPilotList().addListener((ListChangeListener<Pilot>) c -> changes[0]++);
+        final Pilot promotedCarol = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.SECOND_OFFICER, 100);
+        final Pilot renamedAlice = new Pilot("1", "Alicia", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+
+        model.replacePilots(List.of(promotedCarol, renamedAlice));
+
+        assertEquals(1, changes[0]);
+        assertEquals(List.of(renamedAlice, bob, promotedCarol), model.getPilotList());
+        assertEquals(List.of(promotedCarol), model.getAvailablePilots(PilotRank.SECOND_OFFICER));
+        assertEquals(List.of(renamedAlice), model.findPilots("alicia"));
+    }
+
+    @Test
+    void deletePilots_linkedPilots_shouldUnlinkThemFromReferrers() throws LinkException {
+        final Flight flight = new Flight("SQ1");
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, alice);
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        model.addFlight(flight);
+        final Location location = new Location("Singapore");
+        location.getPilotLink().put(PilotLocationType.LOCATION_USING, alice);
+        model.addLocation(location);
+
+        model.deletePilots(List.of(alice.getId(), bob.getId()));
+
+        assertEquals(List.of(carol), model.getPilotList());
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, alice.getId()));
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_MONITORING, bob.getId()));
+        assertFalse(location.getPilotLink().contains(PilotLocationType.LOCATION_USING, alice.getId()));
+        assertTrue(model.getFlightsLinkedTo(alice.getId()).isEmpty());
+        assertTrue(model.getLocationsLinkedTo(alice.getId()).isEmpty());
+    }
+
+    @Test
+    void deleteFlights_linkedPilots_shouldFreePilotsNoLongerLinked() throws LinkException {
+        final Flight first = new Flight("SQ1");
+        final Flight second = new Flight("SQ2");
+        final Flight kept = new Flight("SQ3");
+        first.getPilotLink().put(FlightPilotType.PILOT_FLYING, alice);
+        second.getPilotLink().put(FlightPilotType.PILOT_FLYING, bob);
+        kept.getPilotLink().put(FlightPilotType.PILOT_FLYING, bob);
+        alice.setUnavailable();
+        bob.setUnavailable();
+        model.addFlights(List.of(first, second, kept));
+
+        model.deleteFlights(List.of(first.getId(), second.getId()));
+
+        assertEquals(List.of(kept), model.getFlightList());
+        assertTrue(alice.isAvailable());
+        assertFalse(bob.isAvailable());
+    }
+}
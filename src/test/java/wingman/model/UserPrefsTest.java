@@ -1,5 +1,7 @@
 package wingman.model;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,4 +15,16 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void isBackgroundSaveEnabled_defaultPrefs_returnsFalse() {
+        assertFalse(new UserPrefs().isBackgroundSaveEnabled());
+    }
+
+    @Test
+    public void resetData_backgroundSaveEnabled_copiesIt() {
+        UserPrefs userPref = new UserPrefs();
+        userPref.setBackgroundSaveEnabled(true);
+        assertTrue(new UserPrefs(userPref).isBackgroundSaveEnabled());
+    }
+
 }
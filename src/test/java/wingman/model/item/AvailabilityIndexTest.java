@@ -0,0 +1,84 @@
+package wingman.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.model.ItemManager;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class AvailabilityIndexTest {
+    private ItemManager<Pilot> manager;
+    private AvailabilityIndex<Pilot, PilotRank> index;
+    private Pilot captain;
+    private Pilot otherCaptain;
+    private Pilot cadet;
+
+    @BeforeEach
+    void setUp() {
+        captain = new Pilot("1", "Alice", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+        otherCaptain = new Pilot("2", "Bob", 45, Gender.MALE, PilotRank.CAPTAIN, 12000);
+        cadet = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CADET, 100);
+        manager = new ItemManager<>();
+        manager.setItems(List.of(captain, otherCaptain, cadet));
+        index = new AvailabilityIndex<>(Pilot::isAvailable, Pilot.RANK);
+        manager.addIndex(index);
+    }
+
+    @Test
+    void getAvailable_allAvailable_returnsItemsOfRankInOrder() {
+        assertEquals(List.of(captain, otherCaptain), index.getAvailable(PilotRank.CAPTAIN));
+        assertEquals(List.of(cadet), index.getAvailable(PilotRank.CADET));
+        assertTrue(index.getAvailable(PilotRank.FIRST_OFFICER).isEmpty());
+        assertEquals(3, index.countAvailable());
+    }
+
+    @Test
+    void updateItem_setUnavailable_removesItemFromAvailable() {
+        captain.setUnavailable();
+        manager.updateItem(captain);
+        assertFalse(index.isAvailable(manager.slotOf(captain.getId())));
+        assertEquals(List.of(otherCaptain), index.getAvailable(PilotRank.CAPTAIN));
+        assertEquals(1, index.countAvailable(PilotRank.CAPTAIN));
+
+        captain.setAvailable();
+        manager.updateItem(captain);
+        assertEquals(List.of(captain, otherCaptain), index.getAvailable(PilotRank.CAPTAIN));
+    }
+
+    @Test
+    void removeItem_keepsSlotsOfOtherItems() {
+        otherCaptain.setUnavailable();
+        manager.updateItem(otherCaptain);
+        final int slotOfCadet = manager.slotOf(cadet.getId());
+        manager.removeItem(captain.getId());
+        assertEquals(slotOfCadet, manager.slotOf(cadet.getId()));
+        assertFalse(index.isAvailable(manager.slotOf(otherCaptain.getId())));
+        assertTrue(index.isAvailable(slotOfCadet));
+        assertTrue(index.getAvailable(PilotRank.CAPTAIN).isEmpty());
+        assertEquals(List.of(cadet), index.getAvailable());
+    }
+
+    @Test
+    void setItem_differentRank_movesItemToNewRank() {
+        final Pilot promoted = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.SECOND_OFFICER, 100);
+        manager.setItem(cadet, promoted);
+        assertTrue(index.getAvailable(PilotRank.CADET).isEmpty());
+        assertEquals(List.of(promoted), index.getAvailable(PilotRank.SECOND_OFFICER));
+    }
+
+    @Test
+    void setItems_fewerItems_forgetsRemovedPositions() {
+        manager.setItems(List.of(cadet));
+        assertEquals(1, index.countAvailable());
+        assertTrue(index.getAvailable(PilotRank.CAPTAIN).isEmpty());
+        assertEquals(List.of(cadet), index.getAvailable(PilotRank.CADET));
+    }
+}
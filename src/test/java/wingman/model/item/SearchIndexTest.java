@@ -0,0 +1,61 @@
+package wingman.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.model.ItemManager;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class SearchIndexTest {
+    private ItemManager<Pilot> manager;
+    private SearchIndex<Pilot> index;
+    private Pilot bob;
+    private Pilot bobby;
+    private Pilot jimBob;
+
+    @BeforeEach
+    void setUp() {
+        jimBob = new Pilot("1", "Jim Bobson", 40, Gender.MALE, PilotRank.CAPTAIN, 9000);
+        bobby = new Pilot("2", "Bobby Tan", 30, Gender.MALE, PilotRank.CADET, 100);
+        bob = new Pilot("3", "Bob", 45, Gender.MALE, PilotRank.CAPTAIN, 12000);
+        manager = new ItemManager<>();
+        manager.setItems(List.of(jimBob, bobby, bob));
+        index = new SearchIndex<>(Pilot.NAME);
+        manager.addIndex(index);
+    }
+
+    @Test
+    void search_ignoresCase_ranksExactThenPrefixThenWordMatches() {
+        assertEquals(List.of(bob, bobby, jimBob), index.search("BOB"));
+    }
+
+    @Test
+    void search_severalWords_returnsItemsContainingAllOfThem() {
+        assertEquals(List.of(jimBob), index.search("jim bob"));
+        assertTrue(index.search("bob xyz").isEmpty());
+    }
+
+    @Test
+    void search_wordsShorterThanGram_checksAllItems() {
+        assertEquals(List.of(bob, bobby, jimBob), index.search("bo"));
+        assertEquals(List.of(bobby), index.search("y t"));
+    }
+
+    @Test
+    void search_afterItemsChange_findsCurrentItems() {
+        manager.removeItem(bob.getId());
+        final Pilot renamed = new Pilot("2", "Robert Tan", 30, Gender.MALE, PilotRank.CADET, 100);
+        manager.setItem(bobby, renamed);
+        final Pilot added = new Pilot("4", "Bobbie Lee", 50, Gender.FEMALE, PilotRank.CAPTAIN, 15000);
+        manager.addItem(added);
+        assertEquals(List.of(added, jimBob), index.search("bob"));
+        assertEquals(List.of(renamed), index.search("robert"));
+    }
+}
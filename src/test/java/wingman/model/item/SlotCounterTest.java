@@ -0,0 +1,38 @@
+package wingman.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotCounterTest {
+    @Test
+    void countBefore_afterOccupyingAndFreeing_shouldCountOccupiedSlots() {
+        final SlotCounter counter = new SlotCounter();
+        final BitSet occupied = new BitSet();
+        for (int slot = 0; slot < 100; slot++) {
+            counter.occupy(slot);
+            occupied.set(slot);
+        }
+        for (int slot = 0; slot < 100; slot += 3) {
+            counter.free(slot);
+            occupied.clear(slot);
+        }
+        for (int slot = 0; slot <= 100; slot++) {
+            assertEquals(occupied.get(0, slot).cardinality(), counter.countBefore(slot));
+        }
+    }
+
+    @Test
+    void reset_someSlots_shouldOccupyFirstSlots() {
+        final SlotCounter counter = new SlotCounter();
+        counter.reset(37);
+        assertEquals(0, counter.countBefore(0));
+        assertEquals(20, counter.countBefore(20));
+        assertEquals(37, counter.countBefore(37));
+        assertEquals(37, counter.countBefore(64));
+        counter.occupy(40);
+        assertEquals(38, counter.countBefore(41));
+    }
+}
@@ -4,15 +4,25 @@ package wingman.model.item;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import wingman.model.item.exceptions.DuplicateItemException;
 import wingman.model.item.exceptions.ItemNotFoundException;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
 import wingman.testutil.Assert;
 
 public class UniqueListTest {
@@ -99,6 +109,18 @@ public class UniqueListTest {
         assertTrue(this.list.contains(item));
     }
 
+    @Test
+    void contains_equalItemWithDifferentId_shouldReturnTrueUntilRemoved() {
+        UniqueList<Pilot> pilots = new UniqueList<>();
+        Pilot pilot = new Pilot("1", "Alice", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+        Pilot namesake = new Pilot("2", "Alice", 30, Gender.FEMALE, PilotRank.CADET, 100);
+        pilots.add(pilot);
+        assertTrue(pilots.contains(namesake));
+        Assert.assertThrows(DuplicateItemException.class, () -> pilots.add(namesake));
+        pilots.remove(pilot.getId());
+        assertFalse(pilots.contains(namesake));
+    }
+
     @Test
     void contains_nullItem_shouldThrowNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> this.list.contains((ItemStub) null));
@@ -175,6 +197,147 @@ public class UniqueListTest {
         Assert.assertThrows(ItemNotFoundException.class, () -> this.list.remove(item));
     }
 
+    @Test
+    void remove_itemsInMiddle_shouldPreserveOrderAndPositions() {
+        for (String id : List.of("a", "b", "c", "d", "e")) {
+            this.list.add(new ItemStub(id));
+        }
+        this.list.remove("b");
+        this.list.remove("d");
+        this.list.add(new ItemStub("f"));
+        assertEquals(List.of("a", "c", "e", "f"), this.list.asUnmodifiableObservableList()
+                .stream().map(ItemStub::getId).collect(Collectors.toList()));
+        assertEquals(0, this.list.indexOf("a"));
+        assertEquals(1, this.list.indexOf("c"));
+        assertEquals(2, this.list.indexOf("e"));
+        assertEquals(3, this.list.indexOf("f"));
+        assertEquals(-1, this.list.indexOf("b"));
+    }
+
+    @Test
+    void remove_mostItems_shouldReclaimSlotsAndKeepPositions() {
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ids.add("item" + i);
+            this.list.add(new ItemStub("item" + i));
+        }
+        final int generation = this.list.getSlotGeneration();
+        final List<String> kept = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i % 5 == 0) {
+                kept.add(ids.get(i));
+            } else {
+                this.list.remove(ids.get(i));
+            }
+        }
+        assertTrue(this.list.getSlotGeneration() > generation);
+        for (int i = 0; i < kept.size(); i++) {
+            assertEquals(i, this.list.indexOf(kept.get(i)));
+            assertEquals(kept.get(i), this.list.getInSlot(this.list.slotOf(kept.get(i))).getId());
+        }
+        assertEquals(kept.size(), this.list.getOccupiedSlots().cardinality());
+    }
+
+    @Test
+    void remove_item_shouldNotMoveOtherItemsToOtherSlots() {
+        this.list.addAll(List.of(new ItemStub("a"), new ItemStub("b"), new ItemStub("c")));
+        final int slotOfC = this.list.slotOf("c");
+        this.list.remove("a");
+        assertEquals(slotOfC, this.list.slotOf("c"));
+        assertEquals(1, this.list.indexOf("c"));
+        assertNull(this.list.getInSlot(0));
+        assertEquals(-1, this.list.slotOf("a"));
+    }
+
+    @Test
+    void setItem_afterRemove_shouldReplaceItemInPlace() {
+        ItemStub itemA = new ItemStub("a");
+        ItemStub itemC = new ItemStub("c");
+        this.list.add(itemA);
+        this.list.add(new ItemStub("b"));
+        this.list.add(itemC);
+        this.list.remove("a");
+        ItemStub newItem = new ItemStub("d");
+        this.list.setItem(itemC, newItem);
+        assertEquals(newItem, this.list.get(1));
+        assertEquals(1, this.list.indexOf("d"));
+        assertEquals(-1, this.list.indexOf("c"));
+    }
+
+    @Test
+    void addAll_validItems_shouldAddWithSingleChange() {
+        final int[] changes = {0};
+        this.list.asUnmodifiableObservableList().addListener((ListChangeListener<ItemStub>) c -> changes[0]++);
+        this.list.addAll(List.of(new ItemStub("a"), new ItemStub("b"), new ItemStub("c")));
+        assertEquals(1, changes[0]);
+        assertEquals(3, this.list.size());
+        assertEquals(2, this.list.indexOf("c"));
+    }
+
+    @Test
+    void addAll_duplicatedItems_shouldThrowAndAddNothing() {
+        this.list.add(new ItemStub("a"));
+        Assert.assertThrows(DuplicateItemException.class, () ->
+                this.list.addAll(List.of(new ItemStub("b"), new ItemStub("a"))));
+        Assert.assertThrows(DuplicateItemException.class, () ->
+                this.list.addAll(List.of(new ItemStub("c"), new ItemStub("c"))));
+        assertEquals(1, this.list.size());
+    }
+
+    @Test
+    void removeAll_validIds_shouldRemoveWithSingleChange() {
+        this.list.addAll(List.of(new ItemStub("a"), new ItemStub("b"), new ItemStub("c"), new ItemStub("d")));
+        final int[] changes = {0};
+        this.list.asUnmodifiableObservableList().addListener((ListChangeListener<ItemStub>) c -> changes[0]++);
+        this.list.removeAll(List.of("c", "a"));
+        assertEquals(1, changes[0]);
+        assertFalse(this.list.contains("a"));
+        assertEquals(0, this.list.indexOf("b"));
+        assertEquals(1, this.list.indexOf("d"));
+    }
+
+    @Test
+    void removeAll_missingId_shouldThrowAndRemoveNothing() {
+        this.list.add(new ItemStub("a"));
+        Assert.assertThrows(ItemNotFoundException.class, () -> this.list.removeAll(List.of("a", "b")));
+        assertTrue(this.list.contains("a"));
+    }
+
+    @Test
+    void replaceAll_validItems_shouldReplaceInPlaceWithSingleChange() {
+        this.list.addAll(List.of(new ItemStub("a"), new ItemStub("b"), new ItemStub("c")));
+        final int[] changes = {0};
+        this.list.asUnmodifiableObservableList().addListener((ListChangeListener<ItemStub>) c -> changes[0]++);
+        final ItemStub newA = new ItemStub("a");
+        final ItemStub newC = new ItemStub("c");
+        this.list.replaceAll(List.of(newC, newA));
+        assertEquals(1, changes[0]);
+        assertEquals(newA, this.list.get(0));
+        assertEquals(newC, this.list.get(2));
+        assertEquals(newC, this.list.get("c"));
+    }
+
+    @Test
+    void replaceAll_someItems_shouldOnlyReplaceTheirPositions() {
+        this.list.addAll(List.of(new ItemStub("a"), new ItemStub("b"), new ItemStub("c"), new ItemStub("d")));
+        final List<Integer> replaced = new ArrayList<>();
+        this.list.asUnmodifiableObservableList().addListener((ListChangeListener<ItemStub>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasReplaced());
+                assertEquals(c.getRemovedSize(), c.getAddedSize());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    replaced.add(i);
+                }
+            }
+        });
+        final ItemStub newB = new ItemStub("b");
+        final ItemStub newD = new ItemStub("d");
+        this.list.replaceAll(List.of(newD, newB));
+        assertEquals(List.of(1, 3), replaced);
+        assertSame(newB, this.list.get(1));
+        assertSame(newD, this.list.get(3));
+    }
+
     @Test
     void setItems_validItems_shouldReplaceItems() {
         ItemStub item = new ItemStub("a");
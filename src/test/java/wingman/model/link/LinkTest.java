@@ -10,9 +10,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -334,6 +336,71 @@ public class LinkTest {
                            .isEmpty());
     }
 
+    @Test
+    void getValid_calledTwice_shouldResolveIdsOnce() throws LinkException {
+        setUpLinkAsFull();
+        sut.getValid(CategoryStub.CATEGORY_B);
+        sut.getValid(CategoryStub.CATEGORY_B);
+        Mockito.verify(manager, Mockito.times(1)).getItemOptional("test-id-2");
+    }
+
+    @Test
+    void getValid_afterPut_shouldResolveIdsAgain() throws LinkException {
+        sut.put(CategoryStub.CATEGORY_B, "test-id-2");
+        sut.getValid(CategoryStub.CATEGORY_B);
+        sut.put(CategoryStub.CATEGORY_B, "test-id-3");
+        sut.getValid(CategoryStub.CATEGORY_B);
+        Mockito.verify(manager, Mockito.times(2)).getItemOptional("test-id-2");
+        Mockito.verify(manager, Mockito.times(1)).getItemOptional("test-id-3");
+    }
+
+    @Test
+    void get_afterManagerChanged_shouldResolveIdsAgain() throws LinkException {
+        setUpLinkAsFull();
+        sut.get(CategoryStub.CATEGORY_A);
+        Mockito.when(manager.getVersion()).thenReturn(1L);
+        sut.get(CategoryStub.CATEGORY_A);
+        Mockito.verify(manager, Mockito.times(2)).getItemOptional("test-id-1");
+    }
+
+    @Test
+    void putRevolve_fullKey_shouldDeliverRemovalAndAdditionTogether() throws LinkException {
+        setUpLinkAsFull();
+        final List<List<LinkChange<?>>> deliveries = new ArrayList<>();
+        sut.addListener(changes -> deliveries.add(List.copyOf(changes)));
+        sut.putRevolve(CategoryStub.CATEGORY_A, "new-id");
+        assertEquals(List.of(List.of(
+                new LinkChange<>(CategoryStub.CATEGORY_A, "test-id-1", false),
+                new LinkChange<>(CategoryStub.CATEGORY_A, "new-id", true)
+        )), deliveries);
+    }
+
+    @Test
+    void batch_putUnderTwoKeys_shouldDeliverChangesOnceAtEnd() throws LinkException {
+        final List<List<LinkChange<?>>> deliveries = new ArrayList<>();
+        sut.addListener(changes -> deliveries.add(List.copyOf(changes)));
+        sut.batch(() -> {
+            sut.put(CategoryStub.CATEGORY_A, "id-a");
+            sut.put(CategoryStub.CATEGORY_B, "id-b");
+            assertTrue(deliveries.isEmpty());
+        });
+        assertEquals(List.of(List.of(
+                new LinkChange<>(CategoryStub.CATEGORY_A, "id-a", true),
+                new LinkChange<>(CategoryStub.CATEGORY_B, "id-b", true)
+        )), deliveries);
+    }
+
+    @Test
+    void batch_operationThrows_shouldStillDeliverChangesMade() {
+        final List<LinkChange<?>> delivered = new ArrayList<>();
+        sut.addListener(delivered::addAll);
+        assertThrows(LinkException.class, () -> sut.batch(() -> {
+            sut.put(CategoryStub.CATEGORY_A, "id-a");
+            sut.put(CategoryStub.UNSUPPORTED, "id-b");
+        }));
+        assertEquals(List.of(new LinkChange<>(CategoryStub.CATEGORY_A, "id-a", true)), delivered);
+    }
+
     private enum CategoryStub {
         CATEGORY_A,
         CATEGORY_B,
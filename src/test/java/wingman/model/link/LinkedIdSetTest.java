@@ -0,0 +1,61 @@
+package wingman.model.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LinkedIdSetTest {
+    private LinkedIdSet set;
+
+    @BeforeEach
+    void setUp() {
+        set = new LinkedIdSet(List.of("b", "c"));
+    }
+
+    @Test
+    void addFirstAndAddLast_newIds_shouldKeepOrder() {
+        assertTrue(set.addFirst("a"));
+        assertTrue(set.addLast("d"));
+        assertEquals(List.of("a", "b", "c", "d"), new ArrayList<>(set));
+    }
+
+    @Test
+    void addFirst_existingId_shouldNotMoveId() {
+        assertFalse(set.addFirst("c"));
+        assertEquals(List.of("b", "c"), new ArrayList<>(set));
+    }
+
+    @Test
+    void remove_middleId_shouldKeepOrderOfOthers() {
+        set.addLast("d");
+        assertTrue(set.remove("c"));
+        assertFalse(set.contains("c"));
+        assertEquals(List.of("b", "d"), new ArrayList<>(set));
+    }
+
+    @Test
+    void removeFirst_nonEmptySet_shouldRemoveFrontId() {
+        assertEquals("b", set.removeFirst());
+        assertEquals("c", set.removeFirst());
+        assertTrue(set.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> set.removeFirst());
+    }
+
+    @Test
+    void iteratorRemove_shouldRemoveLastReturnedId() {
+        final Iterator<String> iterator = set.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(List.of("c"), new ArrayList<>(set));
+        assertEquals(1, set.size());
+    }
+}
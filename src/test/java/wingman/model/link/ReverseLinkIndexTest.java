@@ -0,0 +1,118 @@
+package wingman.model.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.fp.Lazy;
+import wingman.model.ItemManager;
+import wingman.model.crew.Crew;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.Location;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Pilot;
+import wingman.model.plane.FlightPlaneType;
+import wingman.model.plane.Plane;
+
+public class ReverseLinkIndexTest {
+    private ReverseLinkIndex index;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReverseLinkIndex();
+        flight = new Flight("flight-id", "SQ123",
+                new Link<>(Pilot.SHAPE, Lazy.of(new ItemManager<Pilot>())),
+                new Link<>(Crew.SHAPE, Lazy.of(new ItemManager<Crew>())),
+                new Link<>(Plane.SHAPE, Lazy.of(new ItemManager<Plane>())),
+                new Link<>(Location.SHAPE, Lazy.of(new ItemManager<Location>()))
+        );
+    }
+
+    @Test
+    void track_existingContents_shouldBeIndexed() throws LinkException {
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-id");
+        index.track(flight, flight.getLinks());
+        assertEquals(List.of(flight), index.getReferrers("pilot-id", Flight.class));
+    }
+
+    @Test
+    void put_trackedLink_shouldBeIndexed() throws LinkException {
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-id");
+        assertEquals(1, index.getReferrerCount("pilot-id"));
+        assertSame(flight, index.getReferrers("pilot-id", Flight.class).get(0));
+        assertEquals(List.of(), index.getReferrers("pilot-id", Location.class));
+    }
+
+    @Test
+    void putRevolve_fullKey_shouldUnindexReplacedId() throws LinkException {
+        index.track(flight, flight.getLinks());
+        flight.planeLink.putRevolve(FlightPlaneType.PLANE_USING, "plane-a");
+        flight.planeLink.putRevolve(FlightPlaneType.PLANE_USING, "plane-b");
+        assertEquals(0, index.getReferrerCount("plane-a"));
+        assertEquals(1, index.getReferrerCount("plane-b"));
+    }
+
+    @Test
+    void delete_idUnderTwoKeys_shouldStayIndexedUntilBothDeleted() throws LinkException {
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-id");
+        flight.pilotLink.put(FlightPilotType.PILOT_MONITORING, "pilot-id");
+        flight.pilotLink.delete(FlightPilotType.PILOT_FLYING, "pilot-id");
+        assertEquals(1, index.getReferrerCount("pilot-id"));
+        flight.pilotLink.delete(FlightPilotType.PILOT_MONITORING, "pilot-id");
+        assertEquals(0, index.getReferrerCount("pilot-id"));
+    }
+
+    @Test
+    void clear_trackedLink_shouldUnindexAllIds() throws LinkException {
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-a");
+        flight.pilotLink.put(FlightPilotType.PILOT_MONITORING, "pilot-b");
+        flight.pilotLink.clear();
+        assertEquals(0, index.getReferrerCount("pilot-a"));
+        assertEquals(0, index.getReferrerCount("pilot-b"));
+    }
+
+    @Test
+    void put_trackedLink_shouldCallLinksChangedHandler() throws LinkException {
+        final List<Item> changedOwners = new ArrayList<>();
+        index = new ReverseLinkIndex(changedOwners::add);
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-id");
+        assertEquals(1, changedOwners.size());
+        assertSame(flight, changedOwners.get(0));
+    }
+
+    @Test
+    void batch_putUnderTwoKeys_shouldCallLinksChangedHandlerOnce() throws LinkException {
+        final List<Item> changedOwners = new ArrayList<>();
+        index = new ReverseLinkIndex(changedOwners::add);
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.batch(() -> {
+            flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-a");
+            flight.pilotLink.put(FlightPilotType.PILOT_MONITORING, "pilot-b");
+        });
+        assertEquals(List.of(flight), changedOwners);
+        assertEquals(1, index.getReferrerCount("pilot-a"));
+        assertEquals(1, index.getReferrerCount("pilot-b"));
+    }
+
+    @Test
+    void untrack_trackedItem_shouldUnindexAndStopListening() throws LinkException {
+        index.track(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, "pilot-a");
+        index.untrack(flight, flight.getLinks());
+        flight.pilotLink.put(FlightPilotType.PILOT_MONITORING, "pilot-b");
+        assertEquals(0, index.getReferrerCount("pilot-a"));
+        assertEquals(0, index.getReferrerCount("pilot-b"));
+    }
+}
@@ -0,0 +1,117 @@
+package wingman.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BackgroundStorageWriterTest {
+    private final Path pathA = Path.of("a.json");
+    private final Path pathB = Path.of("b.json");
+
+    private List<String> writes;
+    private List<IOException> failures;
+    private BackgroundStorageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writes = new ArrayList<>();
+        failures = new ArrayList<>();
+        writer = new BackgroundStorageWriter((path, e) -> failures.add(e));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    @Test
+    void flush_afterSubmit_shouldHavePerformedSave() {
+        writer.submit(pathA, () -> writes.add("a"));
+        writer.flush();
+        assertEquals(List.of("a"), writes);
+    }
+
+    @Test
+    void submit_burstToSameFile_shouldOnlyPerformLatestSave() throws InterruptedException {
+        final CountDownLatch isBlocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        writer.submit(pathB, () -> {
+            isBlocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        isBlocked.await();
+        for (int i = 0; i < 10; i++) {
+            final String write = "a" + i;
+            writer.submit(pathA, () -> writes.add(write));
+        }
+        release.countDown();
+        writer.flush();
+        assertEquals(List.of("a9"), writes);
+    }
+
+    /**
+     * Returns a save that fails the first time it is performed, and writes
+     * the given value afterwards.
+     */
+    private SaveTask failingOnce(String write) {
+        final AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new IOException("disk full");
+            }
+            writes.add(write);
+        };
+    }
+
+    @Test
+    void submit_failingSave_shouldReportToFailureHandler() {
+        final IOException exception = new IOException("disk full");
+        final AtomicInteger attempts = new AtomicInteger();
+        writer.submit(pathA, () -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw exception;
+            }
+        });
+        writer.submit(pathB, () -> writes.add("b"));
+        writer.flush();
+        assertEquals(1, failures.size());
+        assertSame(exception, failures.get(0));
+        assertEquals(List.of("b"), writes);
+    }
+
+    @Test
+    void submit_afterFailedSave_shouldRetryFailedSave() {
+        writer.submit(pathA, failingOnce("a"));
+        writer.flush();
+        assertEquals(1, failures.size());
+        assertEquals(List.of(), writes);
+
+        writer.submit(pathB, () -> writes.add("b"));
+        writer.flush();
+        assertEquals(1, failures.size());
+        assertEquals(List.of("b", "a"), writes);
+    }
+
+    @Test
+    void submit_laterSaveToFailedFile_shouldReplaceFailedSave() {
+        writer.submit(pathA, failingOnce("a1"));
+        writer.flush();
+        writer.submit(pathA, () -> writes.add("a2"));
+        writer.flush();
+        assertEquals(List.of("a2"), writes);
+    }
+}
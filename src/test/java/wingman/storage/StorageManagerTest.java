@@ -0,0 +1,63 @@
+package wingman.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.model.ItemManager;
+import wingman.model.StorageMode;
+import wingman.model.UserPrefs;
+import wingman.model.crew.Crew;
+import wingman.model.flight.Flight;
+import wingman.model.location.Location;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.Plane;
+
+public class StorageManagerTest {
+    @TempDir
+    public Path testFolder;
+
+    private Path prefsPath;
+    private UserPrefs userPrefs;
+    private StorageManager storageManager;
+
+    @BeforeEach
+    void setUp() {
+        prefsPath = testFolder.resolve("preferences.json");
+        userPrefs = new UserPrefs();
+        userPrefs.setPilotManagerFilePath(testFolder.resolve("pilotmanager.json"));
+        userPrefs.setLocationManagerFilePath(testFolder.resolve("locationmanager.json"));
+        userPrefs.setCrewManagerFilePath(testFolder.resolve("crewmanager.json"));
+        userPrefs.setPlaneManagerFilePath(testFolder.resolve("planemanager.json"));
+        userPrefs.setFlightManagerFilePath(testFolder.resolve("flightmanager.json"));
+        storageManager = new StorageManager(
+                new JsonUserPrefsStorage(prefsPath),
+                ItemStorages.createPilotStorage(userPrefs),
+                ItemStorages.createLocationStorage(userPrefs),
+                ItemStorages.createCrewStorage(userPrefs),
+                ItemStorages.createPlaneStorage(userPrefs),
+                ItemStorages.createFlightStorage(userPrefs)
+        );
+    }
+
+    @Test
+    void convertItemStorages_newMode_savedToPrefsFileRightAway() throws Exception {
+        final ItemManager<Pilot> pilotManager = new ItemManager<>();
+        pilotManager.addItem(new Pilot("1", "Alice", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000));
+        final UserPrefs binaryPrefs = new UserPrefs(userPrefs);
+        binaryPrefs.setStorageMode(StorageMode.BINARY);
+        storageManager.convertItemStorages(binaryPrefs, pilotManager, new ItemManager<Location>(),
+                new ItemManager<Crew>(), new ItemManager<Plane>(), new ItemManager<Flight>());
+
+        // as if the app were started again without being stopped cleanly
+        final UserPrefs savedPrefs = new JsonUserPrefsStorage(prefsPath).readUserPrefs().orElseThrow();
+        assertEquals(StorageMode.BINARY, savedPrefs.getStorageMode());
+        assertEquals(1, ItemStorages.createPilotStorage(savedPrefs).read().orElseThrow().size());
+    }
+}
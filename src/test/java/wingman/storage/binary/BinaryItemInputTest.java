@@ -0,0 +1,48 @@
+package wingman.storage.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.exceptions.IllegalValueException;
+
+public class BinaryItemInputTest {
+    private static byte[] encode(String... values) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        for (String value : values) {
+            BinaryItemOutput.writeString(out, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void readString_heapBuffer_shouldReadStringsInOrder() throws Exception {
+        final ByteBuffer in = ByteBuffer.wrap(encode("Changi", "\u822a\u73ed"));
+        assertEquals("Changi", BinaryItemInput.readString(in));
+        assertEquals("\u822a\u73ed", BinaryItemInput.readString(in));
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    void readString_directBuffer_shouldReadStringsInOrder() throws Exception {
+        final byte[] bytes = encode("Changi", "\u822a\u73ed");
+        final ByteBuffer in = ByteBuffer.allocateDirect(bytes.length);
+        in.put(bytes).flip();
+        assertEquals("Changi", BinaryItemInput.readString(in));
+        assertEquals("\u822a\u73ed", BinaryItemInput.readString(in));
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    void readString_lengthPastEnd_shouldThrow() throws Exception {
+        final ByteBuffer in = ByteBuffer.wrap(encode("Changi"), 0, 8).asReadOnlyBuffer();
+        assertThrows(IllegalValueException.class, () -> BinaryItemInput.readString(in));
+    }
+}
@@ -0,0 +1,121 @@
+package wingman.storage.binary.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.FlightLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.storage.binary.BinaryItemStorage;
+
+public class BinaryFlightManagerStorageTest {
+    private static final String PILOT_ID = "pilot-id";
+    private static final String DEPARTURE_ID = "departure-id";
+    private static final String ARRIVAL_ID = "arrival-id";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryFlightManagerStorage storage;
+    private ItemManager<Flight> manager;
+
+    @BeforeEach
+    void setUp() {
+        filePath = testFolder.resolve("flightmanager.bin");
+        storage = new BinaryFlightManagerStorage(filePath);
+        manager = new ItemManager<>();
+    }
+
+    private Flight createFlight(String code) throws LinkException {
+        final Flight flight = new Flight(code);
+        flight.pilotLink.put(FlightPilotType.PILOT_FLYING, PILOT_ID);
+        flight.locationLink.put(FlightLocationType.LOCATION_DEPARTURE, DEPARTURE_ID);
+        flight.locationLink.put(FlightLocationType.LOCATION_ARRIVAL, ARRIVAL_ID);
+        return flight;
+    }
+
+    @Test
+    void getBinaryPath_jsonFile_shouldReplaceExtension() {
+        assertEquals(Path.of("data", "flightmanager.bin"),
+                BinaryItemStorage.getBinaryPath(Path.of("data", "flightmanager.json")));
+    }
+
+    @Test
+    void read_missingFile_shouldReturnEmpty() throws DataConversionException, IOException {
+        assertFalse(storage.read().isPresent());
+    }
+
+    @Test
+    void save_thenRead_shouldReadSavedFlightsAndLinks() throws LinkException, DataConversionException,
+            IOException {
+        final Flight first = createFlight("SQ1");
+        final Flight second = createFlight("SQ2");
+        manager.addItem(first);
+        manager.addItem(second);
+        storage.save(manager);
+
+        final ReadOnlyItemManager<Flight> read = storage.read().get();
+        assertEquals(2, read.size());
+        for (Flight flight : List.of(first, second)) {
+            final Flight readFlight = read.getItemOptional(flight.getId()).get();
+            assertEquals(flight.getCode(), readFlight.getCode());
+            assertEquals(flight.getPilotLink().getCopiedContents().toString(),
+                    readFlight.getPilotLink().getCopiedContents().toString());
+            assertEquals(flight.getLocationLink().getCopiedContents().toString(),
+                    readFlight.getLocationLink().getCopiedContents().toString());
+        }
+    }
+
+    @Test
+    void save_idSharedByFlights_shouldStoreIdOnce() throws LinkException, IOException {
+        for (int i = 0; i < 100; i++) {
+            manager.addItem(createFlight("SQ" + i));
+        }
+        storage.save(manager);
+        final String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(contents.indexOf(PILOT_ID), contents.lastIndexOf(PILOT_ID));
+    }
+
+    @Test
+    void read_corruptedFile_shouldRecoverFromBackup() throws LinkException, DataConversionException,
+            IOException {
+        manager.addItem(createFlight("SQ1"));
+        storage.save(manager);
+        manager.addItem(createFlight("SQ2"));
+        storage.save(manager);
+        final byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertEquals(1, storage.read().get().size());
+    }
+
+    @Test
+    void read_notBinaryFile_shouldThrow() throws IOException {
+        Files.writeString(filePath, "{\"items\" : []}");
+        assertThrows(DataConversionException.class, () -> storage.read());
+    }
+
+    @Test
+    void read_fileOfAnotherManager_shouldThrow() throws IOException {
+        new BinaryPilotManagerStorage(filePath).save(new ItemManager<>());
+        assertThrows(DataConversionException.class, () -> storage.read());
+    }
+}
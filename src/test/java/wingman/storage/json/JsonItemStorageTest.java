@@ -2,7 +2,6 @@ package wingman.storage.json;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Assertions;
@@ -18,7 +17,7 @@ import wingman.commons.exceptions.IllegalValueException;
 import wingman.commons.util.FileHelper;
 import wingman.commons.util.JsonHelper;
 import wingman.model.ItemManager;
-import wingman.storage.stubs.JsonItemManagerStub;
+import wingman.storage.stubs.JsonAdaptedIdentifiableStub;
 import wingman.storage.stubs.JsonItemStorageStub;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,9 +31,6 @@ public class JsonItemStorageTest {
 
     private Path filePath;
 
-    @Mock
-    private JsonItemManagerStub jsonManager;
-
     @Mock
     private Logger logger;
 
@@ -49,52 +45,55 @@ public class JsonItemStorageTest {
                 filePath, jsonHelper, fileHelper, logger);
 
         Mockito.lenient()
-                .when(jsonManager.toModelType())
-                .thenReturn(new ItemManager<>());
-
-        Mockito.lenient()
-                .when(jsonHelper.readJsonFile(Mockito.any(), Mockito.any()))
-                .thenReturn(Optional.of(jsonManager));
+                .when(jsonHelper.readJsonArrayFile(
+                        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(true);
     }
 
     @Test
     void read_noArgs_shouldCallWithDefaultPath()
-            throws DataConversionException, IOException {
+            throws DataConversionException, IOException, IllegalValueException {
         storage.read();
         Mockito.verify(jsonHelper, Mockito.times(1))
-                .readJsonFile(filePath, JsonItemManagerStub.class);
+                .readJsonArrayFile(Mockito.eq(filePath), Mockito.eq(JsonItemManager.ITEMS_FIELD),
+                        Mockito.eq(JsonAdaptedIdentifiableStub.class), Mockito.any());
     }
 
     @Test
     void read_hasPath_shouldCallWithThePathGiven()
-            throws DataConversionException, IOException {
+            throws DataConversionException, IOException, IllegalValueException {
         final Path newPath = Path.of("Hello", "World");
         storage.read(newPath);
         Mockito.verify(jsonHelper, Mockito.times(1))
-                .readJsonFile(newPath, JsonItemManagerStub.class);
+                .readJsonArrayFile(Mockito.eq(newPath), Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(jsonHelper, Mockito.never())
-                .readJsonFile(filePath, JsonItemManagerStub.class);
+                .readJsonArrayFile(Mockito.eq(filePath), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
     void read_fileEmpty_shouldReturnOptionalEmpty()
-            throws DataConversionException, IOException {
-        Mockito.when(jsonHelper.readJsonFile(Mockito.any(), Mockito.any()))
-                .thenReturn(Optional.empty());
+            throws DataConversionException, IOException, IllegalValueException {
+        Mockito.when(jsonHelper.readJsonArrayFile(
+                        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(false);
         assert storage.read().isEmpty();
     }
 
     @Test
     void read_modelCannotConvert_throwDataConversionException()
             throws DataConversionException, IOException, IllegalValueException {
-        Mockito.when(jsonManager.toModelType()).thenThrow(new IllegalValueException("Test"));
+        Mockito.when(jsonHelper.readJsonArrayFile(
+                        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new IllegalValueException("Test"));
         Assertions.assertThrows(DataConversionException.class, () -> storage.read());
     }
 
     @Test
     void read_modelCannotConvert_shouldWriteWarningToLogger()
             throws DataConversionException, IOException, IllegalValueException {
-        Mockito.when(jsonManager.toModelType()).thenThrow(new IllegalValueException("Test"));
+        Mockito.when(jsonHelper.readJsonArrayFile(
+                        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new IllegalValueException("Test"));
         try {
             storage.read();
         } catch (DataConversionException e) {
@@ -107,7 +106,7 @@ public class JsonItemStorageTest {
     void save_noPath_shouldCallWithDefaultPath() throws IOException {
         storage.save(new ItemManager<>());
         Mockito.verify(jsonHelper, Mockito.times(1))
-                .saveJsonFile(Mockito.any(), Mockito.eq(filePath));
+                .saveJsonArrayFile(Mockito.eq(filePath), Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(fileHelper, Mockito.times(1))
                 .createIfMissing(filePath);
     }
@@ -117,11 +116,11 @@ public class JsonItemStorageTest {
         final Path newPath = Path.of("Hello", "World");
         storage.save(new ItemManager<>(), newPath);
         Mockito.verify(jsonHelper, Mockito.times(1))
-                .saveJsonFile(Mockito.any(), Mockito.eq(newPath));
+                .saveJsonArrayFile(Mockito.eq(newPath), Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(fileHelper, Mockito.times(1))
                 .createIfMissing(newPath);
         Mockito.verify(jsonHelper, Mockito.never())
-                .saveJsonFile(Mockito.any(), Mockito.eq(filePath));
+                .saveJsonArrayFile(Mockito.eq(filePath), Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(fileHelper, Mockito.never())
                 .createIfMissing(filePath);
     }
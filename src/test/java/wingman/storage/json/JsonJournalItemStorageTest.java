@@ -0,0 +1,167 @@
+package wingman.storage.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.util.JsonHelper;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.plane.Plane;
+import wingman.storage.SaveTask;
+import wingman.storage.json.adapted.JsonAdaptedPlane;
+import wingman.storage.json.serializable.JsonSerializablePlaneManager;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+public class JsonJournalItemStorageTest {
+    private static final Logger LOGGER = Logger.getLogger(JsonJournalItemStorageTest.class.getName());
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ItemManager<Plane> manager;
+    private Plane plane1;
+    private Plane plane2;
+
+    @BeforeEach
+    void setUp() {
+        filePath = testFolder.resolve("planemanager.json");
+        manager = new ItemManager<>();
+        plane1 = new Plane("A380", 1);
+        plane2 = new Plane("A350", 2);
+    }
+
+    private JsonJournalItemStorage<Plane, JsonAdaptedPlane, JsonSerializablePlaneManager> createStorage(
+            int snapshotInterval
+    ) {
+        return new JsonJournalItemStorage<>(
+                new JsonPlaneManagerStorage(filePath),
+                snapshotInterval,
+                JsonHelper.INSTANCE,
+                LOGGER
+        );
+    }
+
+    private ReadOnlyItemManager<Plane> readWithNewStorage()
+            throws DataConversionException, IOException {
+        return createStorage(JsonJournalItemStorage.DEFAULT_SNAPSHOT_INTERVAL).read().get();
+    }
+
+    @Test
+    void save_firstSave_shouldWriteSnapshotOnly() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        manager.addItem(plane1);
+        storage.save(manager);
+        assertTrue(Files.size(filePath) > 0);
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(1, readWithNewStorage().size());
+    }
+
+    @Test
+    void save_afterFirstSave_shouldAppendOneRecordPerChange() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        manager.addItem(plane1);
+        storage.save(manager);
+        final long snapshotSize = Files.size(filePath);
+        manager.addItem(plane2);
+        manager.removeItem(plane1.getId());
+        storage.save(manager);
+
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(2, Files.readAllLines(storage.getJournalPath()).size());
+        final ReadOnlyItemManager<Plane> read = readWithNewStorage();
+        assertEquals(1, read.size());
+        assertTrue(read.hasItem(plane2.getId()));
+        assertFalse(read.hasItem(plane1.getId()));
+    }
+
+    @Test
+    void save_replacedItem_shouldReplayLatestState() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        manager.addItem(plane1);
+        storage.save(manager);
+        manager.setItem(plane1, new Plane(plane1.getId(), "A321", 3));
+        storage.save(manager);
+
+        final ReadOnlyItemManager<Plane> read = readWithNewStorage();
+        assertEquals("A321", read.getItem(plane1.getId()).getModel());
+    }
+
+    @Test
+    void prepareSave_afterFirstSave_shouldAppendRecordsWhenPerformed() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        storage.save(manager);
+        manager.addItem(plane1);
+        final SaveTask first = storage.prepareSave(manager, filePath);
+        manager.addItem(plane2);
+        final SaveTask second = storage.prepareSave(manager, filePath);
+        assertFalse(Files.exists(storage.getJournalPath()));
+
+        // the latest save replaces the earlier one, as a background writer does.
+        second.run();
+        first.run();
+
+        assertEquals(2, Files.readAllLines(storage.getJournalPath()).size());
+        assertEquals(2, readWithNewStorage().size());
+    }
+
+    @Test
+    void save_snapshotIntervalReached_shouldCompactJournal() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(2);
+        storage.save(manager);
+        manager.addItem(plane1);
+        manager.addItem(plane2);
+        storage.save(manager);
+        storage.close();
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(2, readWithNewStorage().size());
+    }
+
+    @Test
+    void close_withRecords_shouldCompactIntoSnapshot() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        storage.save(manager);
+        manager.addItem(plane1);
+        storage.save(manager);
+        assertTrue(Files.exists(storage.getJournalPath()));
+        storage.close();
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(1, readWithNewStorage().size());
+    }
+
+    @Test
+    void read_incompleteTrailingRecord_shouldIgnoreIt() throws Exception {
+        final JsonJournalItemStorage<Plane, ?, ?> storage = createStorage(10);
+        storage.save(manager);
+        manager.addItem(plane1);
+        storage.save(manager);
+        Files.write(
+                storage.getJournalPath(),
+                "put {\"items\":[{\"id\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND
+        );
+
+        assertEquals(1, readWithNewStorage().size());
+    }
+
+    @Test
+    void read_emptyDataFile_shouldReturnEmpty() throws Exception {
+        Files.createFile(filePath);
+        assertFalse(createStorage(10).read().isPresent());
+    }
+}
@@ -0,0 +1,76 @@
+package wingman.storage.json.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.util.FileUtil;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.plane.Plane;
+
+public class JsonPlaneManagerStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonPlaneManagerStorage storage;
+    private ItemManager<Plane> manager;
+
+    @BeforeEach
+    void setUp() {
+        filePath = testFolder.resolve("planemanager.json");
+        storage = new JsonPlaneManagerStorage(filePath);
+        manager = new ItemManager<>();
+    }
+
+    @Test
+    void save_thenRead_shouldReadSavedItems() throws DataConversionException, IOException {
+        manager.addItem(new Plane("A380", 1));
+        storage.save(manager);
+        final ReadOnlyItemManager<Plane> read = storage.read().get();
+        assertEquals(1, read.size());
+        assertEquals("A380", read.getItem(0).getModel());
+    }
+
+    @Test
+    void read_corruptedFile_shouldRecoverFromBackup() throws DataConversionException, IOException {
+        manager.addItem(new Plane("A380", 1));
+        storage.save(manager);
+        manager.addItem(new Plane("A350", 2));
+        storage.save(manager);
+        Files.writeString(filePath, "{\"items\" : [ {\"id\"");
+
+        assertEquals(1, storage.read().get().size());
+    }
+
+    @Test
+    void read_missingFileWithCompleteTemporaryFile_shouldRecoverFromTemporaryFile()
+            throws DataConversionException, IOException {
+        manager.addItem(new Plane("A380", 1));
+        storage.save(manager);
+        manager.addItem(new Plane("A350", 2));
+        storage.save(manager);
+        // a crash after the backup is made, but before the new file is moved in.
+        Files.move(filePath, FileUtil.getTemporaryPath(filePath));
+
+        assertEquals(2, storage.read().get().size());
+    }
+
+    @Test
+    void read_noReadableGeneration_shouldThrow() throws IOException {
+        Files.writeString(filePath, "not json");
+        Files.writeString(FileUtil.getBackupPath(filePath), "not json either");
+        assertThrows(DataConversionException.class, () -> storage.read());
+        assertTrue(Files.exists(filePath));
+    }
+}
@@ -36,5 +36,14 @@ public class JsonItemStorageStub extends
             ReadOnlyItemManager<ItemStub> modelManager) {
         return JsonItemManagerStub.from(modelManager);
     }
-}
 
+    @Override
+    protected Class<JsonAdaptedIdentifiableStub> getItemClass() {
+        return JsonAdaptedIdentifiableStub.class;
+    }
+
+    @Override
+    protected JsonAdaptedIdentifiableStub createAdaptedItem(ItemStub item) {
+        return new JsonAdaptedIdentifiableStub(item.getId());
+    }
+}
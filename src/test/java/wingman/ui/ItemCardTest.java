@@ -0,0 +1,59 @@
+package wingman.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.toplevel.delete.DeleteCommand;
+import wingman.logic.toplevel.find.FindCommand;
+import wingman.logic.toplevel.syntax.PilotSyntax;
+import wingman.model.ModelManager;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class ItemCardTest {
+    private ModelManager model;
+    private Pilot alice;
+    private Pilot bob;
+    private Pilot carol;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        alice = new Pilot("1", "Alice", 40, Gender.FEMALE, PilotRank.CAPTAIN, 9000);
+        bob = new Pilot("2", "Bob", 45, Gender.MALE, PilotRank.CAPTAIN, 12000);
+        carol = new Pilot("3", "Carol", 20, Gender.FEMALE, PilotRank.CADET, 100);
+        model.addPilot(alice);
+        model.addPilot(bob);
+        model.addPilot(carol);
+    }
+
+    @Test
+    void displayedIndexOf_unfilteredList_returnsPositionPlusOne() {
+        assertEquals(2, ItemCard.displayedIndexOf(model.getPilotList(), 1));
+    }
+
+    @Test
+    void displayedIndexOf_afterFind_deleteOfShownIndexDeletesShownItem() throws CommandException {
+        new FindCommand<>("carol", PilotSyntax::find, PilotSyntax::filter).execute(model);
+        final ObservableList<Pilot> shown = model.getPilotList();
+        assertEquals(List.of(carol), shown);
+
+        final int displayedIndex = ItemCard.displayedIndexOf(shown, 0);
+        assertEquals(3, displayedIndex);
+
+        new DeleteCommand<>(displayedIndex, PilotSyntax::getManager, PilotSyntax::delete).execute(model);
+        assertFalse(model.getPilotManager().hasItem(carol.getId()));
+        assertEquals(2, model.getPilotManager().size());
+        assertSame(alice, model.getPilotManager().getItem(0));
+        assertSame(bob, model.getPilotManager().getItem(1));
+    }
+}